@@ -0,0 +1,294 @@
+package io.quarkus.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing of the build steps executed during a build, including the critical path through the dependency graph.
+ * <p>
+ * The critical path is the chain of dependent steps with the longest total duration. A build can never finish sooner than
+ * the duration of its critical path, no matter how many threads are used.
+ */
+public final class BuildMetrics {
+
+    private final long nanos;
+    private final Map<StepInfo, StepMetrics> executed;
+    private final List<StepMetrics> steps;
+    private final List<StepMetrics> criticalPath;
+
+    BuildMetrics(final long nanos, final Map<StepInfo, StepMetrics> executed) {
+        this.nanos = nanos;
+        this.executed = executed;
+        final List<StepMetrics> steps = new ArrayList<>(executed.values());
+        steps.sort(Comparator.comparingLong(StepMetrics::getStartNanos));
+        for (int i = 0; i < steps.size(); i++) {
+            steps.get(i).id = i;
+        }
+        this.steps = Collections.unmodifiableList(steps);
+        this.criticalPath = Collections.unmodifiableList(computeCriticalPath(steps, executed));
+    }
+
+    /**
+     * A step always starts after all its dependencies finished, i.e. the steps sorted by the start time are also sorted
+     * topologically.
+     */
+    private static List<StepMetrics> computeCriticalPath(final List<StepMetrics> steps,
+            final Map<StepInfo, StepMetrics> executed) {
+        final Map<StepMetrics, Long> pathNanos = new HashMap<>();
+        final Map<StepMetrics, StepMetrics> previous = new HashMap<>();
+        for (StepMetrics step : steps) {
+            pathNanos.putIfAbsent(step, step.getDurationNanos());
+        }
+        StepMetrics last = null;
+        for (StepMetrics step : steps) {
+            final long path = pathNanos.get(step);
+            for (StepInfo dependent : step.stepInfo.getDependents()) {
+                final StepMetrics next = executed.get(dependent);
+                if (next == null) {
+                    continue;
+                }
+                final long nextPath = path + next.getDurationNanos();
+                if (nextPath > pathNanos.get(next)) {
+                    pathNanos.put(next, nextPath);
+                    previous.put(next, step);
+                }
+            }
+            if (last == null || path > pathNanos.get(last)) {
+                last = step;
+            }
+        }
+        final List<StepMetrics> criticalPath = new ArrayList<>();
+        for (StepMetrics step = last; step != null; step = previous.get(step)) {
+            step.onCriticalPath = true;
+            criticalPath.add(step);
+        }
+        Collections.reverse(criticalPath);
+        return criticalPath;
+    }
+
+    /**
+     * Get the metrics of all executed steps, sorted by the start time.
+     *
+     * @return the executed steps
+     */
+    public List<StepMetrics> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Get the steps on the critical path, in the order of execution.
+     *
+     * @return the critical path
+     */
+    public List<StepMetrics> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Get the wall-clock duration of the build.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the sum of the durations of the steps on the critical path.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getCriticalPathDuration(TimeUnit timeUnit) {
+        long sum = 0;
+        for (StepMetrics step : criticalPath) {
+            sum += step.getDurationNanos();
+        }
+        return timeUnit.convert(sum, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the achieved parallelism, i.e. the sum of the durations of all steps divided by the duration of the build.
+     *
+     * @return the achieved parallelism
+     */
+    public double getParallelism() {
+        if (nanos == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (StepMetrics step : steps) {
+            sum += step.getDurationNanos();
+        }
+        return (double) sum / nanos;
+    }
+
+    /**
+     * Get a human-readable summary with the slowest steps and the critical path.
+     *
+     * @param limit the maximum number of slowest steps to include
+     * @return the summary
+     */
+    public String getSummary(int limit) {
+        final StringBuilder b = new StringBuilder();
+        b.append(String.format(Locale.ROOT, "%d build steps executed in %d ms, parallelism %.2f%n", steps.size(),
+                getDuration(TimeUnit.MILLISECONDS), getParallelism()));
+        final List<StepMetrics> slowest = new ArrayList<>(steps);
+        slowest.sort(Comparator.comparingLong(StepMetrics::getDurationNanos).reversed());
+        b.append("Slowest steps:").append(System.lineSeparator());
+        for (StepMetrics step : slowest.subList(0, Math.min(limit, slowest.size()))) {
+            appendStep(b, step);
+        }
+        b.append(String.format(Locale.ROOT, "Critical path (%d ms):%n", getCriticalPathDuration(TimeUnit.MILLISECONDS)));
+        for (StepMetrics step : criticalPath) {
+            appendStep(b, step);
+        }
+        return b.toString();
+    }
+
+    private static void appendStep(final StringBuilder b, final StepMetrics step) {
+        b.append(String.format(Locale.ROOT, "\t%6d ms  %s [%s]%n", step.getDuration(TimeUnit.MILLISECONDS), step.getName(),
+                step.getThreadName()));
+    }
+
+    /**
+     * Get the metrics in the JSON format. The times are in milliseconds and the start time of a step is relative to the
+     * start of the build.
+     *
+     * @return the JSON representation
+     */
+    public String toJson() {
+        final StringBuilder b = new StringBuilder();
+        b.append("{\n  \"duration\": ").append(millis(nanos));
+        b.append(",\n  \"criticalPathDuration\": ").append(millis(getCriticalPathDuration(TimeUnit.NANOSECONDS)));
+        b.append(",\n  \"parallelism\": ").append(String.format(Locale.ROOT, "%.3f", getParallelism()));
+        b.append(",\n  \"steps\": [");
+        for (int i = 0; i < steps.size(); i++) {
+            final StepMetrics step = steps.get(i);
+            b.append(i == 0 ? "\n" : ",\n");
+            b.append("    {\"id\": ").append(step.id);
+            b.append(", \"name\": ");
+            appendString(b, step.getName());
+            b.append(", \"thread\": ");
+            appendString(b, step.getThreadName());
+            b.append(", \"start\": ").append(millis(step.getStartNanos()));
+            b.append(", \"duration\": ").append(millis(step.getDurationNanos()));
+            b.append(", \"criticalPath\": ").append(step.isOnCriticalPath());
+            b.append(", \"dependents\": [");
+            boolean first = true;
+            for (StepInfo dependent : step.stepInfo.getDependents()) {
+                final StepMetrics other = executed.get(dependent);
+                if (other != null) {
+                    b.append(first ? "" : ", ").append(other.id);
+                    first = false;
+                }
+            }
+            b.append("]}");
+        }
+        b.append("\n  ],\n  \"criticalPath\": [");
+        for (int i = 0; i < criticalPath.size(); i++) {
+            b.append(i == 0 ? "" : ", ").append(criticalPath.get(i).id);
+        }
+        b.append("]\n}\n");
+        return b.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static void appendString(final StringBuilder b, final String value) {
+        b.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    b.append("\\\"");
+                    break;
+                case '\\':
+                    b.append("\\\\");
+                    break;
+                case '\n':
+                    b.append("\\n");
+                    break;
+                case '\r':
+                    b.append("\\r");
+                    break;
+                case '\t':
+                    b.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        b.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        b.append(c);
+                    }
+            }
+        }
+        b.append('"');
+    }
+
+    /**
+     * The timing of a single build step.
+     */
+    public static final class StepMetrics {
+
+        final StepInfo stepInfo;
+        private final String threadName;
+        private final long startNanos;
+        private final long durationNanos;
+        // Set when the metrics are computed
+        int id;
+        boolean onCriticalPath;
+
+        StepMetrics(final StepInfo stepInfo, final String threadName, final long startNanos, final long durationNanos) {
+            this.stepInfo = stepInfo;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getName() {
+            return String.valueOf(stepInfo.getBuildStep());
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Get the start time relative to the start of the build.
+         *
+         * @param timeUnit the time unit to return
+         * @return the time
+         */
+        public long getStart(TimeUnit timeUnit) {
+            return timeUnit.convert(startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public long getDuration(TimeUnit timeUnit) {
+            return timeUnit.convert(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public boolean isOnCriticalPath() {
+            return onCriticalPath;
+        }
+
+        long getStartNanos() {
+            return startNanos;
+        }
+
+        long getDurationNanos() {
+            return durationNanos;
+        }
+
+    }
+
+}
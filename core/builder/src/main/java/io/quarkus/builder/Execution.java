@@ -36,6 +36,8 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final ConcurrentHashMap<StepInfo, BuildMetrics.StepMetrics> stepMetrics = new ConcurrentHashMap<>();
+    private volatile long startNanos;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -70,6 +72,7 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        startNanos = start;
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
@@ -116,8 +119,13 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
-        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+        final long nanos = max(0, System.nanoTime() - start);
+        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics), nanos,
+                new BuildMetrics(nanos, stepMetrics));
+    }
+
+    void stepFinished(StepInfo stepInfo, String threadName, long start, long end) {
+        stepMetrics.put(stepInfo, new BuildMetrics.StepMetrics(stepInfo, threadName, start - startNanos, max(0, end - start)));
     }
 
     EnhancedQueueExecutor getExecutor() {
@@ -0,0 +1,98 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildMetricsTest {
+
+    public static final class AlphaItem extends SimpleBuildItem {
+    }
+
+    public static final class BravoItem extends SimpleBuildItem {
+    }
+
+    public static final class CharlieItem extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        // alpha -> bravo is the critical path, charlie runs in parallel
+        builder.addBuildStep(new NamedStep("alpha", 100) {
+            @Override
+            public void execute(final BuildContext context) {
+                super.execute(context);
+                context.produce(new AlphaItem());
+            }
+        }).produces(AlphaItem.class).build();
+        builder.addBuildStep(new NamedStep("bravo", 100) {
+            @Override
+            public void execute(final BuildContext context) {
+                super.execute(context);
+                context.consume(AlphaItem.class);
+                context.produce(new BravoItem());
+            }
+        }).consumes(AlphaItem.class).produces(BravoItem.class).build();
+        builder.addBuildStep(new NamedStep("charlie", 50) {
+            @Override
+            public void execute(final BuildContext context) {
+                super.execute(context);
+                context.produce(new CharlieItem());
+            }
+        }).produces(CharlieItem.class).build();
+        builder.addFinal(BravoItem.class).addFinal(CharlieItem.class);
+
+        final BuildMetrics metrics = builder.build().createExecutionBuilder("my-app.jar").execute().getMetrics();
+        assertEquals(3, metrics.getSteps().size());
+        final List<BuildMetrics.StepMetrics> criticalPath = metrics.getCriticalPath();
+        assertEquals(2, criticalPath.size());
+        assertEquals("alpha", criticalPath.get(0).getName());
+        assertEquals("bravo", criticalPath.get(1).getName());
+        assertTrue(criticalPath.get(1).getStart(TimeUnit.MILLISECONDS) >= 100);
+        assertTrue(metrics.getCriticalPathDuration(TimeUnit.MILLISECONDS) >= 200);
+        for (BuildMetrics.StepMetrics step : metrics.getSteps()) {
+            if (step.getName().equals("charlie")) {
+                assertFalse(step.isOnCriticalPath());
+            }
+        }
+        final String json = metrics.toJson();
+        assertTrue(json.contains("\"name\": \"alpha\""));
+        assertTrue(json.contains("\"criticalPath\": [" + criticalPath.get(0).id + ", " + criticalPath.get(1).id + "]"));
+        assertTrue(metrics.getSummary(10).contains("Critical path"));
+    }
+
+    static class NamedStep implements BuildStep {
+
+        private final String name;
+        private final long sleep;
+
+        NamedStep(String name, long sleep) {
+            this.name = name;
+            this.sleep = sleep;
+        }
+
+        @Override
+        public void execute(final BuildContext context) {
+            try {
+                Thread.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.quarkus.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public class BuildCacheConfig {
+
+    /**
+     * If set to true, the classes generated by some build steps are stored in the build system target directory and reused
+     * by the next build if the inputs of the build step did not change.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean enabled;
+}
@@ -1,9 +1,12 @@
 package io.quarkus.deployment;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,6 +24,7 @@ import io.quarkus.bootstrap.resolver.AppModelResolver;
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
@@ -39,6 +43,11 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    /**
+     * If set, the timing of the build steps is written to the given file in the JSON format and a summary is logged.
+     */
+    private static final String BUILD_METRICS_FILE = "quarkus.debug.build-metrics-file";
+
     private final ClassLoader classLoader;
     private final Path root;
     private final Set<Class<? extends BuildItem>> finalResults;
@@ -126,6 +135,7 @@ public class QuarkusAugmentor {
             }
             BuildResult buildResult = execBuilder
                     .execute();
+            reportMetrics(buildResult.getMetrics());
             String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
@@ -145,6 +155,24 @@ public class QuarkusAugmentor {
         }
     }
 
+    private static void reportMetrics(BuildMetrics metrics) {
+        String file = System.getProperty(BUILD_METRICS_FILE);
+        if (file != null) {
+            Path path = Paths.get(file);
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                Files.write(path, metrics.toJson().getBytes(StandardCharsets.UTF_8));
+                log.infof("Build metrics written to %s%n%s", path.toAbsolutePath(), metrics.getSummary(10));
+            } catch (IOException e) {
+                log.warnf(e, "Unable to write the build metrics to %s", path);
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug(metrics.getSummary(10));
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
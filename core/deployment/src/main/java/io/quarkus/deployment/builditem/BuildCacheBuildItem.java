@@ -0,0 +1,57 @@
+package io.quarkus.deployment.builditem;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
+
+/**
+ * Provides access to the classes generated by a build step during a previous build.
+ *
+ * @see BuildCache
+ */
+public final class BuildCacheBuildItem extends SimpleBuildItem {
+
+    private final BuildCache cache;
+
+    /**
+     *
+     * @param cache the cache or {@code null} if the cache is disabled
+     */
+    public BuildCacheBuildItem(BuildCache cache) {
+        this.cache = cache;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     *
+     * @param stepId
+     * @return a new key
+     * @see BuildCache#newKey(String)
+     */
+    public BuildCache.Key newKey(String stepId) {
+        if (cache == null) {
+            throw new IllegalStateException("Build cache is disabled");
+        }
+        return cache.newKey(stepId);
+    }
+
+    /**
+     *
+     * @param key
+     * @return the generated classes or {@code null} if no entry exists for the given key or the cache is disabled
+     */
+    public Map<String, byte[]> get(BuildCache.Key key) {
+        return cache != null ? cache.get(key) : null;
+    }
+
+    public void put(BuildCache.Key key, Map<String, byte[]> classes) {
+        if (cache != null) {
+            cache.put(key, classes);
+        }
+    }
+
+}
@@ -0,0 +1,320 @@
+package io.quarkus.deployment.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+
+/**
+ * Stores the classes generated by a build step on the disk so that they can be reused by the next build if the inputs of the
+ * build step did not change.
+ * <p>
+ * A build step that wants to reuse its results must compute a {@link Key} from all its inputs. If the generated classes
+ * depend on something that is not part of the key the next build may use stale classes. Only the last entry of each build
+ * step is kept.
+ */
+public final class BuildCache {
+
+    private static final Logger LOGGER = Logger.getLogger(BuildCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory;
+
+    public BuildCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a key for the given build step. The key already contains the Quarkus version.
+     *
+     * @param stepId the identifier of the build step, must be a valid file name
+     */
+    public Key newKey(String stepId) {
+        return new Key(stepId);
+    }
+
+    /**
+     * Reads the entry stored for the given key.
+     *
+     * @return the generated classes, i.e. class name to bytecode, or {@code null} if no entry exists for the given key
+     */
+    public Map<String, byte[]> get(Key key) {
+        Path entry = entryPath(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] data = new byte[in.readInt()];
+                in.readFully(data);
+                classes.put(name, data);
+            }
+            LOGGER.debugf("Classes generated by %s loaded from the build cache", key.stepId);
+            return classes;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to read the build cache entry %s", entry);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the generated classes for the given key. The entries previously stored for the same build step are removed.
+     *
+     * @param classes the generated classes, i.e. class name to bytecode
+     */
+    public void put(Key key, Map<String, byte[]> classes) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            Path entry = entryPath(key);
+            tmp = Files.createTempFile(directory, key.stepId, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(classes.size());
+                for (Map.Entry<String, byte[]> e : classes.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    out.writeInt(e.getValue().length);
+                    out.write(e.getValue());
+                }
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+            removeStale(key, entry);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to write the build cache entry for %s", key.stepId);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private void removeStale(Key key, Path current) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, key.stepId + "-*" + SUFFIX)) {
+            for (Path entry : entries) {
+                // The step id may be a prefix of another step id
+                if (!entry.equals(current)
+                        && entry.getFileName().toString().length() == current.getFileName().toString().length()) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        }
+    }
+
+    private Path entryPath(Key key) {
+        return directory.resolve(key.stepId + "-" + key.getHash() + SUFFIX);
+    }
+
+    /**
+     * The key of a cache entry is a SHA-1 hash of the inputs of a build step. The Quarkus version is always included.
+     * <p>
+     * The inputs must be added in a deterministic order. Note that the key cannot be modified once the hash is computed.
+     */
+    public static final class Key {
+
+        private final String stepId;
+        private final MessageDigest digest;
+        private String hash;
+
+        private Key(String stepId) {
+            this.stepId = stepId;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            put(Version.getVersion());
+        }
+
+        public Key put(String value) {
+            checkNotComputed();
+            if (value == null) {
+                digest.update((byte) 0);
+            } else {
+                digest.update((byte) 1);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                putLength(bytes.length);
+                digest.update(bytes);
+            }
+            return this;
+        }
+
+        public Key put(boolean value) {
+            checkNotComputed();
+            digest.update((byte) (value ? 1 : 0));
+            return this;
+        }
+
+        public Key put(Collection<String> values) {
+            checkNotComputed();
+            putLength(values.size());
+            for (String value : values) {
+                put(value);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the entries of the map sorted by key.
+         *
+         * @return self
+         */
+        public Key put(Map<String, String> values) {
+            checkNotComputed();
+            putLength(values.size());
+            for (Map.Entry<String, String> e : new TreeMap<>(values).entrySet()) {
+                put(e.getKey());
+                put(e.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Adds the name and the bytecode of the class. The bytecode of JDK classes is ignored.
+         *
+         * @return self
+         * @throws IOException if the bytecode cannot be read
+         */
+        public Key put(Class<?> clazz) throws IOException {
+            checkNotComputed();
+            put(clazz.getName());
+            ClassLoader classLoader = clazz.getClassLoader();
+            if (classLoader == null || clazz.isPrimitive() || clazz.isArray()) {
+                return this;
+            }
+            try (InputStream in = classLoader.getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new IOException("Bytecode of " + clazz + " not found");
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int r;
+                while ((r = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, r);
+                }
+                putLength(out.size());
+                digest.update(out.toByteArray());
+            }
+            return this;
+        }
+
+        /**
+         * Adds the content of the archive the class is loaded from, so that a change of the archive is detected even if its
+         * version does not change, e.g. a SNAPSHOT build. If the class is not loaded from a file, e.g. from a directory of
+         * classes, only the bytecode of the class is added.
+         *
+         * @return self
+         * @throws IOException if the archive cannot be read
+         */
+        public Key putArchiveOf(Class<?> clazz) throws IOException {
+            checkNotComputed();
+            Path archive = getArchive(clazz);
+            if (archive == null) {
+                return put(clazz);
+            }
+            put(archive.getFileName().toString());
+            putLength((int) Files.size(archive));
+            try (InputStream in = Files.newInputStream(archive)) {
+                byte[] buffer = new byte[8192];
+                int r;
+                while ((r = in.read(buffer)) > 0) {
+                    digest.update(buffer, 0, r);
+                }
+            }
+            return this;
+        }
+
+        private static Path getArchive(Class<?> clazz) {
+            CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+            URL location = codeSource != null ? codeSource.getLocation() : null;
+            if (location == null || !"file".equals(location.getProtocol())) {
+                return null;
+            }
+            try {
+                Path path = Paths.get(location.toURI());
+                return Files.isRegularFile(path) ? path : null;
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Computes the hash of the inputs. The key cannot be modified afterwards.
+         *
+         * @return the hexadecimal representation of the hash
+         */
+        public String getHash() {
+            if (hash == null) {
+                byte[] bytes = digest.digest();
+                StringBuilder builder = new StringBuilder(bytes.length * 2);
+                for (byte b : bytes) {
+                    builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+                hash = builder.toString();
+            }
+            return hash;
+        }
+
+        public String getStepId() {
+            return stepId;
+        }
+
+        private void putLength(int length) {
+            digest.update((byte) (length >>> 24));
+            digest.update((byte) (length >>> 16));
+            digest.update((byte) (length >>> 8));
+            digest.update((byte) length);
+        }
+
+        private void checkNotComputed() {
+            if (hash != null) {
+                throw new IllegalStateException("The hash was already computed");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return stepId + "-" + getHash();
+        }
+
+    }
+
+}
@@ -2,8 +2,13 @@ package io.quarkus.deployment.configuration;
 
 import static io.quarkus.deployment.util.ReflectUtil.reportError;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +31,7 @@ import org.objectweb.asm.Opcodes;
 import org.wildfly.common.Assert;
 
 import io.quarkus.deployment.AccessorFinder;
+import io.quarkus.deployment.cache.BuildCache;
 import io.quarkus.deployment.configuration.definition.ClassDefinition;
 import io.quarkus.deployment.configuration.definition.GroupDefinition;
 import io.quarkus.deployment.configuration.definition.RootDefinition;
@@ -223,6 +229,78 @@ public final class RunTimeConfigurationGenerator {
                 .setRunTimeDefaults(runTimeDefaults).setAdditionalTypes(additionalTypes).build().run();
     }
 
+    /**
+     * Adds all the inputs of {@link #generate(BuildTimeConfigurationReader.ReadResult, ClassOutput, Map, List)} to the given
+     * key, including the bytecode of the configuration roots and groups and the code of the generator itself.
+     *
+     * @param key
+     * @param readResult
+     * @param runTimeDefaults
+     * @param additionalTypes
+     * @throws IOException if the bytecode of a class cannot be read
+     */
+    public static void putInputs(BuildCache.Key key, BuildTimeConfigurationReader.ReadResult readResult,
+            Map<String, String> runTimeDefaults, List<Class<?>> additionalTypes) throws IOException {
+        // The generated classes also depend on the generator and Gizmo, which may change without a version change
+        key.putArchiveOf(RunTimeConfigurationGenerator.class);
+        key.put(GenerateOperation.class);
+        key.put(AccessorFinder.class);
+        key.putArchiveOf(ClassCreator.class);
+        key.put(ProfileManager.getActiveProfile());
+        key.put(readResult.getBuildTimeRunTimeVisibleValues());
+        key.put(readResult.getSpecifiedRunTimeDefaultValues());
+        key.put(runTimeDefaults);
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> additionalType : additionalTypes) {
+            putType(key, additionalType, visited);
+        }
+        for (RootDefinition root : readResult.getAllRoots()) {
+            key.put(root.getRootName());
+            key.put(root.getConfigPhase().name());
+            putDefinition(key, root, visited);
+        }
+    }
+
+    private static void putDefinition(BuildCache.Key key, ClassDefinition definition, Set<Class<?>> visited)
+            throws IOException {
+        putType(key, definition.getConfigurationClass(), visited);
+        for (ClassDefinition.ClassMember member : definition.getMembers()) {
+            key.put(member.getName());
+            while (member instanceof ClassDefinition.MapMember) {
+                member = ((ClassDefinition.MapMember) member).getNested();
+            }
+            if (member instanceof ClassDefinition.GroupMember) {
+                putDefinition(key, ((ClassDefinition.GroupMember) member).getGroupDefinition(), visited);
+            } else {
+                putType(key, member.getField().getGenericType(), visited);
+            }
+        }
+    }
+
+    private static void putType(BuildCache.Key key, Type type, Set<Class<?>> visited) throws IOException {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            if (visited.add(clazz)) {
+                key.put(clazz);
+            } else {
+                key.put(clazz.getName());
+            }
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            putType(key, parameterizedType.getRawType(), visited);
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                putType(key, argument, visited);
+            }
+        } else if (type instanceof GenericArrayType) {
+            putType(key, ((GenericArrayType) type).getGenericComponentType(), visited);
+        } else {
+            key.put(type.getTypeName());
+        }
+    }
+
     static final class GenerateOperation implements AutoCloseable {
         final AccessorFinder accessorFinder;
         final ClassOutput classOutput;
@@ -43,6 +43,7 @@ import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -56,6 +57,8 @@ public class ApplicationArchiveBuildStep {
     // At least Jandex 2.1 is needed
     private static final int REQUIRED_INDEX_VERSION = 8;
 
+    private static final String INDEX_CACHE_DIR = "quarkus-index-cache";
+
     IndexDependencyConfiguration config;
 
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
@@ -81,7 +84,7 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
-            LiveReloadBuildItem liveReloadContext) throws IOException {
+            LiveReloadBuildItem liveReloadContext, BuildSystemTargetBuildItem buildSystemTarget) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -90,7 +93,7 @@ public class ApplicationArchiveBuildStep {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
-            indexCache = new IndexCache();
+            indexCache = new IndexCache(getPersistentIndexCache(buildSystemTarget));
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
 
@@ -123,6 +126,15 @@ public class ApplicationArchiveBuildStep {
         return indexPaths(dependenciesToIndex, classLoader, indexCache);
     }
 
+    /**
+     * The indexes are stored in the build system target directory, e.g. {@code target/quarkus-index-cache}. No indexes are
+     * persisted if the target directory is not known.
+     */
+    private static PersistentIndexCache getPersistentIndexCache(BuildSystemTargetBuildItem buildSystemTarget) {
+        Path targetDir = buildSystemTarget.getOutputDirectory();
+        return targetDir != null ? new PersistentIndexCache(targetDir.resolve(INDEX_CACHE_DIR)) : null;
+    }
+
     public List<Path> getIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems,
             ClassLoader classLoader, ArchiveRootBuildItem root) {
         ArtifactIndex artifactIndex = new ArtifactIndex(new ClassPathArtifactResolver(classLoader));
@@ -258,13 +270,13 @@ public class ApplicationArchiveBuildStep {
                                 LOGGER.warnf(
                                         "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
                                         path);
-                                return indexJar(file);
+                                return indexJar(path, file, indexCache.persistentCache);
                             } else {
                                 return reader.read();
                             }
                         }
                     }
-                    return indexJar(file);
+                    return indexJar(path, file, indexCache.persistentCache);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -272,6 +284,22 @@ public class ApplicationArchiveBuildStep {
         });
     }
 
+    private static Index indexJar(Path path, JarFile file, PersistentIndexCache persistentCache) throws IOException {
+        if (persistentCache == null) {
+            return indexJar(file);
+        }
+        Index index = persistentCache.read(path);
+        if (index == null) {
+            // The key must reflect the state of the archive before it's indexed
+            PersistentIndexCache.Key key = PersistentIndexCache.Key.of(path);
+            index = indexJar(file);
+            persistentCache.write(key, index);
+        } else {
+            LOGGER.debugf("Index of %s loaded from the cache", path);
+        }
+        return index;
+    }
+
     private static Index indexJar(JarFile file) throws IOException {
         Indexer indexer = new Indexer();
         Enumeration<JarEntry> e = file.entries();
@@ -289,10 +317,19 @@ public class ApplicationArchiveBuildStep {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * The indexes of archives that do not contain a Jandex index are also stored in the persistent cache, if available,
+     * so that subsequent builds do not need to re-index them.
      */
     private static final class IndexCache {
 
         final Map<Path, Index> cache = new HashMap<>();
 
+        final PersistentIndexCache persistentCache;
+
+        IndexCache(PersistentIndexCache persistentCache) {
+            this.persistentCache = persistentCache;
+        }
+
     }
 }
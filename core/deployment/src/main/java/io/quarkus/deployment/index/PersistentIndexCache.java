@@ -0,0 +1,153 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the indexes of dependency archives on the disk so that the archives that do not contain a Jandex index are not
+ * re-indexed during every build.
+ * <p>
+ * An entry is keyed by the absolute path of the archive and is only used if the size and the last modified time of the
+ * archive did not change. Entries are written to a temporary file first and then moved to the final location so that
+ * concurrent builds never read an incomplete entry.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     *
+     * @param archive the path of the dependency archive
+     * @return the cached index or {@code null} if no valid entry exists
+     */
+    Index read(Path archive) {
+        Path entry = entryPath(archive);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            Key key = Key.of(archive);
+            if (in.readInt() != FORMAT_VERSION || !key.matches(in)) {
+                LOGGER.debugf("Stale index cache entry for %s", archive);
+                return null;
+            }
+            return new IndexReader(in).read();
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // E.g. an index written by a newer version of Jandex
+            LOGGER.debugf(e, "Unable to read the index cache entry for %s", archive);
+            return null;
+        }
+    }
+
+    /**
+     * The key of the entry must be obtained before the archive is indexed.
+     *
+     * @param key the key of the archive obtained before it was indexed
+     * @param index the index of the archive
+     */
+    void write(Key key, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            Path entry = entryPath(key.archive);
+            tmp = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                key.write(out);
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to write the index cache entry for %s", key.archive);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path entryPath(Path archive) {
+        String absolutePath = archive.toAbsolutePath().toString();
+        // Keep the file name for convenience
+        return directory.resolve(archive.getFileName() + "-" + sha1(absolutePath) + SUFFIX);
+    }
+
+    private static String sha1(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static final class Key {
+
+        final Path archive;
+        private final String absolutePath;
+        private final long size;
+        private final long lastModified;
+
+        private Key(Path archive, String absolutePath, long size, long lastModified) {
+            this.archive = archive;
+            this.absolutePath = absolutePath;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static Key of(Path archive) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+            return new Key(archive, archive.toAbsolutePath().toString(), attributes.size(),
+                    attributes.lastModifiedTime().toMillis());
+        }
+
+        boolean matches(DataInputStream in) throws IOException {
+            return absolutePath.equals(in.readUTF()) && size == in.readLong() && lastModified == in.readLong();
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeUTF(absolutePath);
+            out.writeLong(size);
+            out.writeLong(lastModified);
+        }
+
+    }
+
+}
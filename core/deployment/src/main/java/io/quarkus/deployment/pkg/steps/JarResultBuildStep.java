@@ -31,6 +31,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -67,6 +70,7 @@ import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageSourceJarBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.UberJarRequiredBuildItem;
+import io.quarkus.deployment.util.ParallelUtil;
 
 /**
  * This build step builds both the thin jars and uber jars.
@@ -145,13 +149,15 @@ public class JarResultBuildStep {
             List<GeneratedClassBuildItem> generatedClasses,
             List<GeneratedResourceBuildItem> generatedResources,
             List<UberJarRequiredBuildItem> uberJarRequired,
-            List<GeneratedFileSystemResourceBuildItem> generatedFileSystemResources) throws Exception {
+            List<GeneratedFileSystemResourceBuildItem> generatedFileSystemResources,
+            Executor executor) throws Exception {
         if (!uberJarRequired.isEmpty() || packageConfig.uberJar) {
             return buildUberJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
                     packageConfig, applicationInfo, generatedClasses, generatedResources, generatedFileSystemResources);
         } else {
             return buildThinJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
-                    packageConfig, applicationInfo, generatedClasses, generatedResources, generatedFileSystemResources);
+                    packageConfig, applicationInfo, generatedClasses, generatedResources, generatedFileSystemResources,
+                    executor);
         }
     }
 
@@ -297,7 +303,8 @@ public class JarResultBuildStep {
             ApplicationInfoBuildItem applicationInfo,
             List<GeneratedClassBuildItem> generatedClasses,
             List<GeneratedResourceBuildItem> generatedResources,
-            List<GeneratedFileSystemResourceBuildItem> generatedFileSystemResources) throws Exception {
+            List<GeneratedFileSystemResourceBuildItem> generatedFileSystemResources,
+            Executor executor) throws Exception {
 
         Path runnerJar = outputTargetBuildItem.getOutputDirectory()
                 .resolve(outputTargetBuildItem.getBaseName() + packageConfig.runnerSuffix + ".jar");
@@ -311,7 +318,7 @@ public class JarResultBuildStep {
             log.info("Building thin jar: " + runnerJar);
 
             doThinJarGeneration(curateOutcomeBuildItem, transformedClasses, applicationArchivesBuildItem, applicationInfo,
-                    packageConfig, generatedResources, libDir, generatedClasses, runnerZipFs);
+                    packageConfig, generatedResources, libDir, generatedClasses, runnerZipFs, executor);
         }
         runnerJar.toFile().setReadable(true, false);
 
@@ -344,7 +351,8 @@ public class JarResultBuildStep {
             PackageConfig packageConfig,
             List<GeneratedClassBuildItem> generatedClasses,
             List<GeneratedNativeImageClassBuildItem> nativeImageResources,
-            List<GeneratedResourceBuildItem> generatedResources) throws Exception {
+            List<GeneratedResourceBuildItem> generatedResources,
+            Executor executor) throws Exception {
         Path thinJarDirectory = outputTargetBuildItem.getOutputDirectory()
                 .resolve(outputTargetBuildItem.getBaseName() + "-native-image-source-jar");
         IoUtils.recursiveDelete(thinJarDirectory);
@@ -365,7 +373,7 @@ public class JarResultBuildStep {
             log.info("Building native image source jar: " + runnerJar);
 
             doThinJarGeneration(curateOutcomeBuildItem, transformedClasses, applicationArchivesBuildItem, applicationInfo,
-                    packageConfig, generatedResources, libDir, allClasses, runnerZipFs);
+                    packageConfig, generatedResources, libDir, allClasses, runnerZipFs, executor);
         }
         runnerJar.toFile().setReadable(true, false);
         return new NativeImageSourceJarBuildItem(runnerJar, libDir);
@@ -408,8 +416,9 @@ public class JarResultBuildStep {
             List<GeneratedResourceBuildItem> generatedResources,
             Path libDir,
             List<GeneratedClassBuildItem> allClasses,
-            FileSystem runnerZipFs)
-            throws BootstrapDependencyProcessingException, AppModelResolverException, IOException {
+            FileSystem runnerZipFs,
+            Executor executor)
+            throws BootstrapDependencyProcessingException, AppModelResolverException, IOException, InterruptedException {
         final AppModelResolver depResolver = curateOutcomeBuildItem.getResolver();
         final Map<String, String> seen = new HashMap<>();
         final StringBuilder classPath = new StringBuilder();
@@ -417,18 +426,43 @@ public class JarResultBuildStep {
 
         final List<AppDependency> appDeps = curateOutcomeBuildItem.getEffectiveModel().getUserDependencies();
 
-        copyLibraryJars(transformedClasses, libDir, depResolver, classPath, appDeps);
+        final List<Callable<Void>> tasks = copyLibraryJars(transformedClasses, libDir, depResolver, classPath, appDeps);
 
         AppArtifact appArtifact = curateOutcomeBuildItem.getEffectiveModel().getAppArtifact();
         // the manifest needs to be the first entry in the jar, otherwise JarInputStream does not work properly
         // see https://bugs.openjdk.java.net/browse/JDK-8031748
         generateManifest(runnerZipFs, classPath.toString(), packageConfig, appArtifact, applicationInfo);
-        copyCommonContent(runnerZipFs, services, applicationArchivesBuildItem, transformedClasses, allClasses,
-                generatedResources, seen);
+        // the runner jar is assembled while the library jars are copied
+        tasks.add(0, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                copyCommonContent(runnerZipFs, services, applicationArchivesBuildItem, transformedClasses, allClasses,
+                        generatedResources, seen);
+                return null;
+            }
+        });
+        try {
+            ParallelUtil.invokeAll(executor, tasks);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
     }
 
-    private void copyLibraryJars(TransformedClassesBuildItem transformedClasses, Path libDir, AppModelResolver depResolver,
-            StringBuilder classPath, List<AppDependency> appDeps) throws AppModelResolverException, IOException {
+    /**
+     * The class path is built immediately, the library jars are copied by the returned tasks.
+     */
+    private List<Callable<Void>> copyLibraryJars(TransformedClassesBuildItem transformedClasses, Path libDir,
+            AppModelResolver depResolver, StringBuilder classPath, List<AppDependency> appDeps)
+            throws AppModelResolverException {
+        final List<Callable<Void>> tasks = new ArrayList<>(appDeps.size() + 1);
         for (AppDependency appDep : appDeps) {
             final AppArtifact depArtifact = appDep.getArtifact();
             final Path resolvedDep = depResolver.resolve(depArtifact);
@@ -443,17 +477,30 @@ public class JarResultBuildStep {
             if (transformedFromThisArchive == null || transformedFromThisArchive.isEmpty()) {
                 final String fileName = depArtifact.getGroupId() + "." + resolvedDep.getFileName();
                 final Path targetPath = libDir.resolve(fileName);
-                Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() throws IOException {
+                        Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                        return null;
+                    }
+                });
                 classPath.append(" lib/" + fileName);
             } else {
                 //we have transformed classes, we need to handle them correctly
                 final String fileName = "modified-" + depArtifact.getGroupId() + "." + resolvedDep.getFileName();
                 final Path targetPath = libDir.resolve(fileName);
                 classPath.append(" lib/" + fileName);
-                filterZipFile(resolvedDep, targetPath, transformedFromThisArchive);
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        filterZipFile(resolvedDep, targetPath, transformedFromThisArchive);
+                        return null;
+                    }
+                });
             }
 
         }
+        return tasks;
     }
 
     private void copyCommonContent(FileSystem runnerZipFs, Map<String, List<byte[]>> services,
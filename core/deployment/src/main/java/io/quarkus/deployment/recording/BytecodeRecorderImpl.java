@@ -60,6 +60,7 @@ import io.quarkus.runtime.ObjectSubstitution;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskTiming;
 
 /**
  * A class that can be used to record invocations to bytecode so they can be replayed later. This is done through the
@@ -107,6 +108,7 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private final Map<Class<?>, SubstitutionHolder> substitutions = new HashMap<>();
     private final Map<Class<?>, NonDefaultConstructorHolder> nonDefaultConstructors = new HashMap<>();
     private final String className;
+    private final String buildStepName;
 
     private final List<ObjectLoader> loaders = new ArrayList<>();
 
@@ -123,14 +125,20 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private boolean loadComplete;
 
     public BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className) {
-        this.classLoader = classLoader;
-        this.staticInit = staticInit;
-        this.className = className;
+        this(classLoader, staticInit, className, className);
     }
 
     public BytecodeRecorderImpl(boolean staticInit, String buildStepName, String methodName) {
         this(Thread.currentThread().getContextClassLoader(), staticInit,
-                BASE_PACKAGE + buildStepName + "$" + methodName + OUTPUT_COUNT.incrementAndGet());
+                BASE_PACKAGE + buildStepName + "$" + methodName + OUTPUT_COUNT.incrementAndGet(),
+                buildStepName + "#" + methodName);
+    }
+
+    private BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className, String buildStepName) {
+        this.classLoader = classLoader;
+        this.staticInit = staticInit;
+        this.className = className;
+        this.buildStepName = buildStepName;
     }
 
     public boolean isEmpty() {
@@ -329,6 +337,14 @@ public class BytecodeRecorderImpl implements RecorderContext {
         return className;
     }
 
+    /**
+     *
+     * @return the name of the build step that recorded the bytecode, used in diagnostic messages
+     */
+    public String getBuildStepName() {
+        return buildStepName;
+    }
+
     public void writeBytecode(ClassOutput classOutput) {
         ClassCreator file = ClassCreator.builder().classOutput(classOutput)
                 .className(className)
@@ -423,9 +439,14 @@ public class BytecodeRecorderImpl implements RecorderContext {
                             params[i] = context.loadDeferred(call.deferredParameters[i]);
                         }
                         //do the invocation
+                        ResultHandle start = method.invokeStaticMethod(ofMethod(System.class, "nanoTime", long.class));
                         ResultHandle callResult = method.invokeVirtualMethod(ofMethod(call.method.getDeclaringClass(),
                                 call.method.getName(), call.method.getReturnType(), call.method.getParameterTypes()),
                                 context.loadDeferred(recorderInstance), params);
+                        //record the duration of the invocation
+                        method.invokeStaticMethod(ofMethod(StartupTaskTiming.class, "recorderMethodFinished", void.class,
+                                String.class, long.class),
+                                method.load(call.theClass.getSimpleName() + "#" + call.method.getName()), start);
 
                         if (call.method.getReturnType() != void.class) {
                             if (call.returnedProxy != null) {
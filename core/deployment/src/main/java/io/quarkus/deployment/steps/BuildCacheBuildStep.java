@@ -0,0 +1,28 @@
+package io.quarkus.deployment.steps;
+
+import java.nio.file.Path;
+
+import io.quarkus.deployment.BuildCacheConfig;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+
+class BuildCacheBuildStep {
+
+    private static final String BUILD_CACHE_DIR = "quarkus-build-cache";
+
+    /**
+     * The entries are stored in the build system target directory, e.g. {@code target/quarkus-build-cache}. The cache is
+     * disabled if the target directory is not known.
+     */
+    @BuildStep
+    BuildCacheBuildItem buildCache(BuildCacheConfig config, BuildSystemTargetBuildItem buildSystemTarget) {
+        Path targetDir = buildSystemTarget.getOutputDirectory();
+        if (!config.enabled || targetDir == null) {
+            return new BuildCacheBuildItem(null);
+        }
+        return new BuildCacheBuildItem(new BuildCache(targetDir.resolve(BUILD_CACHE_DIR)));
+    }
+
+}
@@ -4,8 +4,10 @@ import static io.quarkus.gizmo.MethodDescriptor.ofConstructor;
 import static io.quarkus.gizmo.MethodDescriptor.ofMethod;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +22,7 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationClassNameBuildItem;
 import io.quarkus.deployment.builditem.ApplicationInfoBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.BytecodeRecorderObjectLoaderBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
@@ -34,6 +37,7 @@ import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.SslTrustStoreSystemPropertyBuildItem;
 import io.quarkus.deployment.builditem.StaticBytecodeRecorderBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
+import io.quarkus.deployment.cache.BuildCache;
 import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
 import io.quarkus.deployment.configuration.RunTimeConfigurationGenerator;
 import io.quarkus.deployment.recording.BytecodeRecorderImpl;
@@ -51,6 +55,7 @@ import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.NativeImageRuntimePropertiesRecorder;
 import io.quarkus.runtime.StartupContext;
 import io.quarkus.runtime.StartupTask;
+import io.quarkus.runtime.StartupTaskTiming;
 import io.quarkus.runtime.Timing;
 import io.quarkus.runtime.configuration.ProfileManager;
 
@@ -63,6 +68,11 @@ class MainClassBuildStep {
     private static final String JAVA_LIBRARY_PATH = "java.library.path";
     private static final String JAVAX_NET_SSL_TRUST_STORE = "javax.net.ssl.trustStore";
 
+    private static final MethodDescriptor TASK_FINISHED = ofMethod(StartupTaskTiming.class, "taskFinished", void.class,
+            String.class, boolean.class, long.class);
+
+    private static final Logger log = Logger.getLogger(MainClassBuildStep.class);
+
     @BuildStep
     MainClassBuildItem build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
             List<ObjectSubstitutionBuildItem> substitutions,
@@ -78,7 +88,8 @@ class MainClassBuildStep {
             ApplicationInfoBuildItem applicationInfo,
             List<RunTimeConfigurationDefaultBuildItem> runTimeDefaults,
             List<ConfigurationTypeBuildItem> typeItems,
-            ConfigurationBuildItem configItem) {
+            ConfigurationBuildItem configItem,
+            BuildCacheBuildItem buildCache) {
 
         BuildTimeConfigurationReader.ReadResult readResult = configItem.getReadResult();
         Map<String, String> defaults = new HashMap<>();
@@ -92,7 +103,7 @@ class MainClassBuildStep {
 
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
 
-        RunTimeConfigurationGenerator.generate(readResult, classOutput, defaults, additionalConfigTypes);
+        generateConfig(buildCache, classOutput, readResult, defaults, additionalConfigTypes);
 
         appClassNameProducer.produce(new ApplicationClassNameBuildItem(APP_CLASS));
 
@@ -144,8 +155,11 @@ class MainClassBuildStep {
                 recorder.writeBytecode(gizmoOutput);
 
                 ResultHandle dup = tryBlock.newInstance(ofConstructor(recorder.getClassName()));
+                ResultHandle start = tryBlock.invokeStaticMethod(ofMethod(System.class, "nanoTime", long.class));
                 tryBlock.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
                         startupContext);
+                tryBlock.invokeStaticMethod(TASK_FINISHED, tryBlock.load(recorder.getBuildStepName()), tryBlock.load(true),
+                        start);
             }
         }
         tryBlock.returnValue(null);
@@ -223,8 +237,11 @@ class MainClassBuildStep {
                 }
                 recorder.writeBytecode(gizmoOutput);
                 ResultHandle dup = tryBlock.newInstance(ofConstructor(recorder.getClassName()));
+                ResultHandle start = tryBlock.invokeStaticMethod(ofMethod(System.class, "nanoTime", long.class));
                 tryBlock.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
                         startupContext);
+                tryBlock.invokeStaticMethod(TASK_FINISHED, tryBlock.load(recorder.getBuildStepName()), tryBlock.load(false),
+                        start);
             }
         }
 
@@ -288,4 +305,40 @@ class MainClassBuildStep {
         return new MainClassBuildItem(MAIN_CLASS);
     }
 
+    /**
+     * The generated config classes are reused if the configuration and the config roots did not change.
+     */
+    private void generateConfig(BuildCacheBuildItem buildCache, ClassOutput classOutput,
+            BuildTimeConfigurationReader.ReadResult readResult, Map<String, String> defaults,
+            List<Class<?>> additionalConfigTypes) {
+        BuildCache.Key key = null;
+        if (buildCache.isEnabled()) {
+            key = buildCache.newKey("run-time-config");
+            try {
+                RunTimeConfigurationGenerator.putInputs(key, readResult, defaults, additionalConfigTypes);
+            } catch (IOException e) {
+                log.debugf(e, "Unable to compute the build cache key for the run time config");
+                key = null;
+            }
+        }
+        Map<String, byte[]> cached = key != null ? buildCache.get(key) : null;
+        if (cached != null) {
+            for (Map.Entry<String, byte[]> entry : cached.entrySet()) {
+                classOutput.write(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+        Map<String, byte[]> generated = new LinkedHashMap<>();
+        RunTimeConfigurationGenerator.generate(readResult, new ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                generated.put(name, data);
+                classOutput.write(name, data);
+            }
+        }, defaults, additionalConfigTypes);
+        if (key != null) {
+            buildCache.put(key, generated);
+        }
+    }
+
 }
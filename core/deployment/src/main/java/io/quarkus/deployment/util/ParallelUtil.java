@@ -0,0 +1,98 @@
+package io.quarkus.deployment.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs CPU or I/O heavy tasks of a build step on the shared build executor, i.e. the executor that can be injected in a
+ * build step method as a parameter of type {@link Executor}.
+ * <p>
+ * The build executor is not bounded so that the build steps never block each other. Therefore, the number of tasks that
+ * run concurrently is limited to the number of available processors. The calling thread always participates in the work.
+ */
+public final class ParallelUtil {
+
+    private ParallelUtil() {
+    }
+
+    /**
+     * Runs the tasks with at most as many concurrent tasks as there are available processors and waits for all of them.
+     *
+     * @return the results in the order of the tasks
+     * @throws ExecutionException if a task fails; the remaining tasks are not started
+     */
+    public static <T> List<T> invokeAll(Executor executor, List<? extends Callable<? extends T>> tasks)
+            throws ExecutionException, InterruptedException {
+        return invokeAll(executor, tasks, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Runs the tasks with at most {@code parallelism} concurrent tasks and waits for all of them.
+     *
+     * @param parallelism the maximum number of tasks that run concurrently
+     * @return the results in the order of the tasks
+     * @throws ExecutionException if a task fails; the remaining tasks are not started
+     */
+    public static <T> List<T> invokeAll(Executor executor, List<? extends Callable<? extends T>> tasks, int parallelism)
+            throws ExecutionException, InterruptedException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be greater than zero: " + parallelism);
+        }
+        Object[] results = new Object[tasks.size()];
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int helpers = Math.min(parallelism, tasks.size()) - 1;
+        CountDownLatch finished = new CountDownLatch(Math.max(helpers, 0));
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int i;
+                while (failure.get() == null && (i = next.getAndIncrement()) < results.length) {
+                    try {
+                        results[i] = tasks.get(i).call();
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                }
+            }
+        };
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            worker.run();
+                        } finally {
+                            finished.countDown();
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                // E.g. rejected - the remaining tasks are run by the calling thread
+                for (int j = i; j < helpers; j++) {
+                    finished.countDown();
+                }
+                break;
+            }
+        }
+        worker.run();
+        // Also makes the results written by the other threads visible
+        finished.await();
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new ExecutionException(t);
+        }
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) new ArrayList<>(Arrays.asList(results));
+        return list;
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.quarkus.deployment.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class BuildCacheTestCase {
+
+    @Test
+    public void testGetPut() throws IOException {
+        Path dir = Files.createTempDirectory("build-cache");
+        try {
+            BuildCache cache = new BuildCache(dir.resolve("cache"));
+            assertNull(cache.get(cache.newKey("foo").put("alpha")));
+
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            classes.put("org/acme/Foo", new byte[] { 1, 2, 3 });
+            classes.put("org/acme/Bar", new byte[0]);
+            cache.put(cache.newKey("foo").put("alpha"), classes);
+            // Another step whose id starts with the same prefix
+            cache.put(cache.newKey("foo-bar").put("alpha"), Collections.singletonMap("org/acme/Baz", new byte[] { 4 }));
+
+            Map<String, byte[]> cached = cache.get(cache.newKey("foo").put("alpha"));
+            assertNotNull(cached);
+            assertEquals(Arrays.asList("org/acme/Foo", "org/acme/Bar"), Arrays.asList(cached.keySet().toArray()));
+            assertArrayEquals(new byte[] { 1, 2, 3 }, cached.get("org/acme/Foo"));
+            assertArrayEquals(new byte[0], cached.get("org/acme/Bar"));
+            assertNull(cache.get(cache.newKey("foo").put("bravo")));
+
+            // The previous entry of the step is removed
+            cache.put(cache.newKey("foo").put("bravo"), classes);
+            assertNull(cache.get(cache.newKey("foo").put("alpha")));
+            assertNotNull(cache.get(cache.newKey("foo").put("bravo")));
+            assertNotNull(cache.get(cache.newKey("foo-bar").put("alpha")));
+            try (Stream<Path> entries = Files.list(dir.resolve("cache"))) {
+                assertEquals(2, entries.count());
+            }
+        } finally {
+            try (Stream<Path> stream = Files.walk(dir)) {
+                stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void testKey() throws IOException {
+        BuildCache cache = new BuildCache(null);
+        Map<String, String> map1 = new HashMap<>();
+        map1.put("a", "1");
+        map1.put("b", "2");
+        Map<String, String> map2 = new LinkedHashMap<>();
+        map2.put("b", "2");
+        map2.put("a", "1");
+        assertEquals(cache.newKey("foo").put(map1).getHash(), cache.newKey("foo").put(map2).getHash());
+        assertEquals(cache.newKey("foo").put(BuildCacheTestCase.class).getHash(),
+                cache.newKey("foo").put(BuildCacheTestCase.class).getHash());
+        assertNotEquals(cache.newKey("foo").put(BuildCacheTestCase.class).getHash(),
+                cache.newKey("foo").put(BuildCache.class).getHash());
+        assertNotEquals(cache.newKey("foo").put("ab").put("c").getHash(), cache.newKey("foo").put("a").put("bc").getHash());
+        assertNotEquals(cache.newKey("foo").put((String) null).getHash(), cache.newKey("foo").put("").getHash());
+    }
+
+    @Test
+    public void testArchiveKey() throws IOException {
+        BuildCache cache = new BuildCache(null);
+        // Test is loaded from the junit jar
+        assertEquals(cache.newKey("foo").putArchiveOf(Test.class).getHash(),
+                cache.newKey("foo").putArchiveOf(Test.class).getHash());
+        assertNotEquals(cache.newKey("foo").putArchiveOf(Test.class).getHash(),
+                cache.newKey("foo").put(Test.class).getHash());
+        // A class loaded from a directory is hashed on its own
+        assertEquals(cache.newKey("foo").putArchiveOf(BuildCacheTestCase.class).getHash(),
+                cache.newKey("foo").put(BuildCacheTestCase.class).getHash());
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+public class PersistentIndexCacheTestCase {
+
+    @Test
+    public void testReadWrite() throws IOException {
+        Path dir = Files.createTempDirectory("index-cache");
+        try {
+            Path archive = Files.write(dir.resolve("foo.jar"), new byte[] { 1, 2, 3 });
+            PersistentIndexCache cache = new PersistentIndexCache(dir.resolve("cache"));
+            assertNull(cache.read(archive));
+
+            cache.write(PersistentIndexCache.Key.of(archive), index(PersistentIndexCacheTestCase.class));
+            Index index = cache.read(archive);
+            assertNotNull(index);
+            assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTestCase.class.getName())));
+            // Only the entry is stored in the cache directory
+            try (Stream<Path> entries = Files.list(dir.resolve("cache"))) {
+                assertEquals(1, entries.count());
+            }
+
+            // The archive was modified
+            Files.setLastModifiedTime(archive, FileTime.fromMillis(Files.getLastModifiedTime(archive).toMillis() + 2000));
+            assertNull(cache.read(archive));
+        } finally {
+            try (Stream<Path> stream = Files.walk(dir)) {
+                stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    private static Index index(Class<?> clazz) throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            indexer.index(in);
+        }
+        return indexer.complete();
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.deployment.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelUtilTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testResultsOrder() throws Exception {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            tasks.add(() -> value);
+        }
+        List<Integer> results = ParallelUtil.invokeAll(executor, tasks, 4);
+        assertEquals(100, results.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), results.get(i));
+        }
+    }
+
+    @Test
+    public void testParallelism() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(() -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return null;
+            });
+        }
+        ParallelUtil.invokeAll(executor, tasks, 3);
+        assertTrue(max.get() <= 3, "Max concurrent tasks: " + max.get());
+    }
+
+    @Test
+    public void testFailure() {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        tasks.add(() -> null);
+        tasks.add(() -> {
+            throw new IOException("foo");
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> ParallelUtil.invokeAll(executor, tasks, 2));
+        assertTrue(e.getCause() instanceof IOException);
+    }
+
+    @Test
+    public void testNoTasks() throws Exception {
+        assertTrue(ParallelUtil.invokeAll(executor, new ArrayList<Callable<Void>>()).isEmpty());
+    }
+
+}
@@ -280,6 +280,9 @@ public class DevModeMain implements Closeable {
             for (HotReplacementSetup i : hotReplacement) {
                 i.close();
             }
+            if (runtimeUpdatesProcessor != null) {
+                runtimeUpdatesProcessor.close();
+            }
         }
     }
 }
@@ -0,0 +1,338 @@
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps an in-memory snapshot of the last modified times of the files under a root directory and reports the files that
+ * were added, modified or removed since the previous check.
+ * <p>
+ * A {@link WatchService} is used to find out which paths need to be checked so that the cost of a check is proportional to
+ * the number of changes. If a native watch service is not available, the root directory cannot be watched or an event is
+ * lost, the whole root directory is walked instead.
+ */
+class FileChangeTracker implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeTracker.class.getPackage().getName());
+
+    private final Path root;
+    private final Predicate<Path> filter;
+    private final boolean useWatchService;
+    // file -> last modified time
+    private final Map<Path, Long> snapshot;
+    private final Map<WatchKey, Path> watchKeys;
+    private final Set<Path> watchedDirectories;
+    private WatchService watchService;
+    private boolean initialized;
+
+    /**
+     *
+     * @param root
+     * @param filter only files matching the filter are tracked
+     */
+    FileChangeTracker(Path root, Predicate<Path> filter) {
+        this(root, filter, true);
+    }
+
+    FileChangeTracker(Path root, Predicate<Path> filter, boolean useWatchService) {
+        this.root = root;
+        this.filter = filter;
+        this.useWatchService = useWatchService;
+        this.snapshot = new HashMap<>();
+        this.watchKeys = new HashMap<>();
+        this.watchedDirectories = new HashSet<>();
+    }
+
+    /**
+     * The first check reports all existing files as added.
+     *
+     * @return the changes since the previous check
+     */
+    synchronized Changes check() {
+        Changes changes = new Changes();
+        if (!Files.isDirectory(root)) {
+            // The root may be created later
+            stopWatching();
+            initialized = false;
+            for (Path file : snapshot.keySet()) {
+                changes.removed.add(file);
+            }
+            snapshot.clear();
+            return changes;
+        }
+        if (!initialized) {
+            initialized = true;
+            if (useWatchService) {
+                startWatching();
+            }
+            scan(changes);
+        } else if (watchService == null) {
+            scan(changes);
+        } else {
+            checkEvents(changes);
+        }
+        return changes;
+    }
+
+    /**
+     * Unlike {@link #check()} the root directory is always walked, e.g. because the caller has just modified some files and
+     * the corresponding events might not be delivered yet.
+     *
+     * @return the changes since the previous check
+     */
+    synchronized Changes checkAll() {
+        if (!initialized || !Files.isDirectory(root)) {
+            return check();
+        }
+        Changes changes = new Changes();
+        scan(changes);
+        return changes;
+    }
+
+    /**
+     *
+     * @return the tracked files
+     */
+    synchronized Set<Path> getFiles() {
+        return new HashSet<>(snapshot.keySet());
+    }
+
+    /**
+     * The file will not be reported as removed, e.g. if it is deleted by the caller.
+     *
+     * @param file
+     */
+    synchronized void forget(Path file) {
+        snapshot.remove(file);
+    }
+
+    @Override
+    public synchronized void close() {
+        stopWatching();
+    }
+
+    private void startWatching() {
+        try {
+            watchService = root.getFileSystem().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debugf(e, "Watch service not available for %s - polling will be used", root);
+            return;
+        }
+        if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+            // Changes would not be detected reliably before the next request
+            log.debugf("Native watch service not available for %s - polling will be used", root);
+            stopWatching();
+        }
+    }
+
+    private void stopWatching() {
+        watchKeys.clear();
+        watchedDirectories.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debugf(e, "Unable to close the watch service for %s", root);
+            }
+            watchService = null;
+        }
+    }
+
+    private void checkEvents(Changes changes) {
+        Set<Path> dirty = new HashSet<>();
+        boolean overflow = false;
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path dir = watchKeys.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    overflow = true;
+                } else if (dir != null) {
+                    dirty.add(dir.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                // The directory is no longer accessible
+                watchKeys.remove(key);
+                watchedDirectories.remove(dir);
+            }
+        }
+        if (overflow) {
+            log.debugf("Some file system events were lost - walking %s", root);
+            scan(changes);
+            return;
+        }
+        for (Path path : dirty) {
+            if (Files.isDirectory(path)) {
+                if (!watchedDirectories.contains(path)) {
+                    // A new directory, possibly with some content
+                    walk(path, changes, null);
+                }
+            } else if (Files.exists(path)) {
+                if (filter.test(path)) {
+                    checkFile(path, changes);
+                }
+            } else {
+                removeAll(path, changes);
+            }
+            if (watchService == null) {
+                // Failed to watch a new directory
+                scan(changes);
+                return;
+            }
+        }
+    }
+
+    private void scan(Changes changes) {
+        Set<Path> unseen = new HashSet<>(snapshot.keySet());
+        if (!walk(root, changes, unseen)) {
+            // Removals are detected during the next check
+            return;
+        }
+        for (Path removed : unseen) {
+            snapshot.remove(removed);
+            changes.removed.add(removed);
+        }
+    }
+
+    /**
+     *
+     * @param start
+     * @param changes
+     * @param unseen
+     * @return {@code true} if all the files were visited, {@code false} otherwise
+     */
+    private boolean walk(Path start, Changes changes, Set<Path> unseen) {
+        try (Stream<Path> stream = Files.walk(start)) {
+            Iterator<Path> it = stream.iterator();
+            while (it.hasNext()) {
+                Path path = it.next();
+                if (Files.isDirectory(path)) {
+                    register(path);
+                } else if (filter.test(path)) {
+                    if (unseen != null) {
+                        unseen.remove(path);
+                    }
+                    checkFile(path, changes);
+                }
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            // Removed in the meantime
+            removeAll(start, changes);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (UncheckedIOException e) {
+            if (!(e.getCause() instanceof NoSuchFileException)) {
+                throw e;
+            }
+            // A directory was removed during the walk
+            return false;
+        }
+    }
+
+    private void register(Path dir) {
+        if (watchService == null || watchedDirectories.contains(dir)) {
+            return;
+        }
+        try {
+            watchKeys.put(dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+            watchedDirectories.add(dir);
+        } catch (IOException e) {
+            // E.g. the limit of inotify watches was reached
+            log.debugf(e, "Unable to watch %s - polling will be used", dir);
+            stopWatching();
+        }
+    }
+
+    private void checkFile(Path file, Changes changes) {
+        long lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(file).toMillis();
+        } catch (NoSuchFileException e) {
+            removeAll(file, changes);
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Long previous = snapshot.put(file, lastModified);
+        if (previous == null) {
+            changes.added.add(file);
+        } else if (previous != lastModified) {
+            changes.modified.add(file);
+        }
+    }
+
+    private void removeAll(Path path, Changes changes) {
+        if (snapshot.remove(path) != null) {
+            changes.removed.add(path);
+            return;
+        }
+        // Might be a directory
+        for (Iterator<Path> it = snapshot.keySet().iterator(); it.hasNext();) {
+            Path file = it.next();
+            if (file.startsWith(path)) {
+                it.remove();
+                changes.removed.add(file);
+            }
+        }
+    }
+
+    static final class Changes {
+
+        private final Set<Path> added = new HashSet<>();
+        private final Set<Path> modified = new HashSet<>();
+        private final Set<Path> removed = new HashSet<>();
+
+        Set<Path> getAdded() {
+            return Collections.unmodifiableSet(added);
+        }
+
+        Set<Path> getModified() {
+            return Collections.unmodifiableSet(modified);
+        }
+
+        Set<Path> getRemoved() {
+            return Collections.unmodifiableSet(removed);
+        }
+
+        /**
+         *
+         * @return the added and modified files
+         */
+        Set<Path> getUpdated() {
+            Set<Path> updated = new HashSet<>(added);
+            updated.addAll(modified);
+            return updated;
+        }
+
+        boolean isEmpty() {
+            return added.isEmpty() && modified.isEmpty() && removed.isEmpty();
+        }
+
+    }
+
+}
@@ -3,6 +3,7 @@ package io.quarkus.dev;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -12,6 +13,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -19,11 +21,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jboss.logging.Logger;
 
@@ -31,7 +31,7 @@ import io.quarkus.deployment.devmode.HotReplacementContext;
 import io.quarkus.deployment.devmode.HotReplacementSetup;
 import io.quarkus.runtime.Timing;
 
-public class RuntimeUpdatesProcessor implements HotReplacementContext {
+public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable {
     private static final String CLASS_EXTENSION = ".class";
     private static final Logger log = Logger.getLogger(RuntimeUpdatesProcessor.class.getPackage().getName());
 
@@ -46,15 +46,18 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
      * This is useful in two ways.
      * - To make sure that source time stamps have been recorded at least once
      * - To avoid re-compiling on first run by ignoring all first time changes detected by
-     * {@link RuntimeUpdatesProcessor#checkIfFileModified(Path, Map, boolean)} during the first scan.
+     * {@link FileChangeTracker#check()} during the first scan.
      */
     private volatile boolean firstScanDone = false;
 
-    private final Map<Path, Long> sourceFileTimestamps = new ConcurrentHashMap<>();
     private final Map<Path, Long> watchedFileTimestamps = new ConcurrentHashMap<>();
-    private final Map<Path, Long> classFileChangeTimeStamps = new ConcurrentHashMap<>();
     private final Map<Path, Path> classFilePathToSourceFilePath = new ConcurrentHashMap<>();
 
+    // root path -> tracker
+    private final Map<Path, FileChangeTracker> sourceTrackers = new ConcurrentHashMap<>();
+    private final Map<Path, FileChangeTracker> classTrackers = new ConcurrentHashMap<>();
+    private final Map<Path, FileChangeTracker> resourceTrackers = new ConcurrentHashMap<>();
+
     /**
      * Resources that appear in both src and target, these will be removed if the src resource subsequently disappears.
      * This map contains the paths in the target dir, one for each module, otherwise on a second module we will delete files
@@ -166,18 +169,20 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
         for (DevModeContext.ModuleInfo module : context.getModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            final Set<Path> moduleRemovedSourceFilePaths = new HashSet<>();
 
             for (String sourcePath : module.getSourcePaths()) {
-                final Set<File> changedSourceFiles;
-                try (final Stream<Path> sourcesStream = Files.walk(Paths.get(sourcePath))) {
-                    changedSourceFiles = sourcesStream
-                            .parallel()
-                            .filter(p -> matchingHandledExtension(p).isPresent()
-                                    && sourceFileWasRecentModified(p, ignoreFirstScanChanges))
-                            .map(Path::toFile)
-                            //Needing a concurrent Set, not many standard options:
-                            .collect(Collectors.toCollection(ConcurrentSkipListSet::new));
+                final FileChangeTracker.Changes changes = sourceTrackers
+                        .computeIfAbsent(Paths.get(sourcePath),
+                                p -> new FileChangeTracker(p, f -> matchingHandledExtension(f).isPresent()))
+                        .check();
+                if (ignoreFirstScanChanges) {
+                    continue;
                 }
+                moduleRemovedSourceFilePaths.addAll(changes.getRemoved());
+                final Set<File> changedSourceFiles = changes.getUpdated().stream()
+                        .map(Path::toFile)
+                        .collect(Collectors.toSet());
                 if (!changedSourceFiles.isEmpty()) {
                     log.info("Changed source files detected, recompiling " + changedSourceFiles);
                     try {
@@ -196,7 +201,8 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
             }
 
-            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges)) {
+            if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, moduleRemovedSourceFilePaths,
+                    ignoreFirstScanChanges)) {
                 hasChanges = true;
             }
         }
@@ -206,7 +212,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     }
 
     private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun) {
+            Set<Path> moduleRemovedSourceFiles, boolean isInitialRun) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
 
         if (module.getClassesPath() == null) {
@@ -215,37 +221,39 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
         try {
             for (String folder : module.getClassesPath().split(File.pathSeparator)) {
-                final Path moduleClassesPath = Paths.get(folder);
-                try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
-                    final Set<Path> classFilePaths = classesStream
-                            .parallel()
-                            .filter(path -> path.toString().endsWith(CLASS_EXTENSION))
-                            .collect(Collectors.toSet());
-
-                    for (Path classFilePath : classFilePaths) {
-                        final Path sourceFilePath = retrieveSourceFilePathForClassFile(classFilePath, moduleChangedSourceFiles,
-                                module);
-
-                        if (sourceFilePath != null) {
-                            if (!sourceFilePath.toFile().exists()) {
-                                // Source file has been deleted. Delete class and restart
-                                cleanUpClassFile(classFilePath);
-                                sourceFileTimestamps.remove(sourceFilePath);
+                final FileChangeTracker tracker = classTrackers.computeIfAbsent(Paths.get(folder),
+                        p -> new FileChangeTracker(p, f -> f.toString().endsWith(CLASS_EXTENSION)));
+                final boolean sourcesChanged = !moduleChangedSourceFiles.isEmpty() || !moduleRemovedSourceFiles.isEmpty();
+                // The classes were just recompiled - do not rely on file system events
+                final Set<Path> updatedClassFiles = (sourcesChanged ? tracker.checkAll() : tracker.check()).getUpdated();
+
+                if (!isInitialRun && !updatedClassFiles.isEmpty()) {
+                    // At least one class was recently modified. Restart.
+                    hasChanges = true;
+                }
+                if (!isInitialRun && !sourcesChanged) {
+                    // No need to look for the class files of changed sources
+                    continue;
+                }
+
+                for (Path classFilePath : tracker.getFiles()) {
+                    final Path sourceFilePath = retrieveSourceFilePathForClassFile(classFilePath, moduleChangedSourceFiles,
+                            module);
+
+                    if (sourceFilePath != null) {
+                        if (moduleRemovedSourceFiles.contains(sourceFilePath)) {
+                            // Source file has been deleted. Delete class and restart
+                            cleanUpClassFile(tracker, classFilePath);
+                            hasChanges = true;
+                        } else {
+                            classFilePathToSourceFilePath.put(classFilePath, sourceFilePath);
+                            if (moduleChangedSourceFiles.contains(sourceFilePath)
+                                    && !updatedClassFiles.contains(classFilePath)) {
+                                // Source file has been modified, we delete the .class files as they are going to
+                                // be recompiled anyway, this allows for simple cleanup of inner classes
+                                cleanUpClassFile(tracker, classFilePath);
                                 hasChanges = true;
-                            } else {
-                                classFilePathToSourceFilePath.put(classFilePath, sourceFilePath);
-                                if (classFileWasRecentModified(classFilePath, isInitialRun)) {
-                                    // At least one class was recently modified. Restart.
-                                    hasChanges = true;
-                                } else if (moduleChangedSourceFiles.contains(sourceFilePath)) {
-                                    // Source file has been modified, we delete the .class files as they are going to
-                                    // be recompiled anyway, this allows for simple cleanup of inner classes
-                                    cleanUpClassFile(classFilePath);
-                                    hasChanges = true;
-                                }
                             }
-                        } else if (classFileWasRecentModified(classFilePath, isInitialRun)) {
-                            hasChanges = true;
                         }
                     }
                 }
@@ -266,9 +274,9 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return sourceFilePath;
     }
 
-    private void cleanUpClassFile(Path classFilePath) throws IOException {
+    private void cleanUpClassFile(FileChangeTracker tracker, Path classFilePath) throws IOException {
         Files.deleteIfExists(classFilePath);
-        classFileChangeTimeStamps.remove(classFilePath);
+        tracker.forget(classFilePath);
         classFilePathToSourceFilePath.remove(classFilePath);
     }
 
@@ -307,41 +315,34 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
             //copy all modified non hot deployment files over
             if (doCopy) {
                 try {
-                    final Set<Path> seen = new HashSet<>(moduleResources);
-                    //since the stream is Closeable, use a try with resources so the underlying iterator is closed
-                    try (final Stream<Path> walk = Files.walk(root)) {
-                        walk.forEach(path -> {
-                            try {
-                                Path relative = root.relativize(path);
-                                Path target = classesDir.resolve(relative);
-                                seen.remove(target);
-                                if (!watchedFileTimestamps.containsKey(path)) {
-                                    moduleResources.add(target);
-                                    if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
-                                            .getLastModifiedTime(path).toMillis()) {
-                                        if (Files.isDirectory(path)) {
-                                            Files.createDirectories(target);
-                                        } else {
-                                            Files.createDirectories(target.getParent());
-                                            byte[] data = Files.readAllBytes(path);
-                                            try (FileOutputStream out = new FileOutputStream(target.toFile())) {
-                                                out.write(data);
-                                            }
-                                        }
+                    final FileChangeTracker.Changes changes = resourceTrackers
+                            .computeIfAbsent(root, r -> new FileChangeTracker(r, p -> true))
+                            .check();
+                    for (Path path : changes.getUpdated()) {
+                        try {
+                            Path target = classesDir.resolve(root.relativize(path));
+                            if (!watchedFileTimestamps.containsKey(path)) {
+                                moduleResources.add(target);
+                                if (!Files.exists(target) || Files.getLastModifiedTime(target).toMillis() < Files
+                                        .getLastModifiedTime(path).toMillis()) {
+                                    Files.createDirectories(target.getParent());
+                                    byte[] data = Files.readAllBytes(path);
+                                    try (FileOutputStream out = new FileOutputStream(target.toFile())) {
+                                        out.write(data);
                                     }
                                 }
-                            } catch (Exception e) {
-                                log.error("Failed to copy resources", e);
                             }
-                        });
+                        } catch (Exception e) {
+                            log.error("Failed to copy resources", e);
+                        }
                     }
-                    for (Path i : seen) {
-                        moduleResources.remove(i);
-                        if (!Files.isDirectory(i)) {
-                            Files.delete(i);
+                    for (Path path : changes.getRemoved()) {
+                        Path target = classesDir.resolve(root.relativize(path));
+                        if (moduleResources.remove(target)) {
+                            Files.deleteIfExists(target);
                         }
                     }
-                } catch (IOException e) {
+                } catch (IOException | UncheckedIOException e) {
                     log.error("Failed to copy resources", e);
                 }
             }
@@ -382,35 +383,6 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return ret;
     }
 
-    private boolean sourceFileWasRecentModified(final Path sourcePath, boolean ignoreFirstScanChanges) {
-        return checkIfFileModified(sourcePath, sourceFileTimestamps, ignoreFirstScanChanges);
-    }
-
-    private boolean classFileWasRecentModified(final Path classFilePath, boolean ignoreFirstScanChanges) {
-        return checkIfFileModified(classFilePath, classFileChangeTimeStamps, ignoreFirstScanChanges);
-    }
-
-    private boolean checkIfFileModified(Path path, Map<Path, Long> pathModificationTimes, boolean ignoreFirstScanChanges) {
-        try {
-            final long lastModificationTime = Files.getLastModifiedTime(path).toMillis();
-            final Long lastRecordedChange = pathModificationTimes.get(path);
-
-            if (lastRecordedChange == null) {
-                pathModificationTimes.put(path, lastModificationTime);
-                return !ignoreFirstScanChanges;
-            }
-
-            if (lastRecordedChange != lastModificationTime) {
-                pathModificationTimes.put(path, lastModificationTime);
-                return true;
-            }
-
-            return false;
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     public RuntimeUpdatesProcessor setWatchedFilePaths(Map<String, Boolean> watchedFilePaths) {
         this.watchedFilePaths = watchedFilePaths;
         watchedFileTimestamps.clear();
@@ -452,4 +424,14 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         }
     }
 
+    @Override
+    public void close() {
+        for (Map<Path, FileChangeTracker> trackers : Arrays.asList(sourceTrackers, classTrackers, resourceTrackers)) {
+            for (FileChangeTracker tracker : trackers.values()) {
+                tracker.close();
+            }
+            trackers.clear();
+        }
+    }
+
 }
@@ -0,0 +1,86 @@
+package io.quarkus.dev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+public class FileChangeTrackerTest {
+
+    @Test
+    public void testPolling() throws Exception {
+        testChanges(false);
+    }
+
+    @Test
+    public void testWatchService() throws Exception {
+        testChanges(true);
+    }
+
+    private void testChanges(boolean useWatchService) throws Exception {
+        Path root = Files.createTempDirectory("tracker");
+        try (FileChangeTracker tracker = new FileChangeTracker(root, p -> p.toString().endsWith(".txt"), useWatchService)) {
+            Path foo = Files.write(root.resolve("foo.txt"), "foo".getBytes());
+            Files.write(root.resolve("ignored.bin"), "bin".getBytes());
+
+            // The first check reports all the existing files
+            FileChangeTracker.Changes changes = tracker.check();
+            assertEquals(Collections.singleton(foo), changes.getAdded());
+            assertTrue(tracker.check().isEmpty());
+
+            Files.setLastModifiedTime(foo, FileTime.fromMillis(Files.getLastModifiedTime(foo).toMillis() + 2000));
+            changes = awaitChanges(tracker);
+            assertEquals(Collections.singleton(foo), changes.getModified());
+            assertTrue(changes.getAdded().isEmpty());
+
+            Path bar = Files.write(Files.createDirectories(root.resolve("sub/dir")).resolve("bar.txt"), "bar".getBytes());
+            changes = awaitChanges(tracker);
+            assertEquals(Collections.singleton(bar), changes.getAdded());
+
+            // Files in the new directory are watched as well
+            Path baz = Files.write(bar.getParent().resolve("baz.txt"), "baz".getBytes());
+            changes = awaitChanges(tracker);
+            assertEquals(Collections.singleton(baz), changes.getAdded());
+
+            Files.delete(foo);
+            changes = awaitChanges(tracker);
+            assertEquals(Collections.singleton(foo), changes.getRemoved());
+
+            // Forgotten files are not reported
+            tracker.forget(baz);
+            Files.delete(baz);
+            Files.delete(bar);
+            changes = awaitChanges(tracker);
+            assertEquals(Collections.singleton(bar), changes.getRemoved());
+            assertEquals(Collections.emptySet(), tracker.getFiles());
+        } finally {
+            delete(root);
+        }
+    }
+
+    private FileChangeTracker.Changes awaitChanges(FileChangeTracker tracker) throws InterruptedException {
+        // File system events are delivered asynchronously
+        long timeout = System.currentTimeMillis() + 5000;
+        FileChangeTracker.Changes changes = tracker.check();
+        while (changes.isEmpty() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(20);
+            changes = tracker.check();
+        }
+        return changes;
+    }
+
+    private void delete(Path root) throws IOException {
+        try (Stream<Path> stream = Files.walk(root)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package io.quarkus.runtime;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.graalvm.nativeimage.ImageInfo;
+import org.jboss.logging.Logger;
+
+/**
+ * Collects the duration of the {@link StartupTask}s and of the recorder methods invoked by the tasks.
+ * <p>
+ * The invocations are generated by Quarkus. The summary is logged when the application is started. If the
+ * {@value #STARTUP_TIMING_FILE} system property is set, the timing is also written to the specified file in the JSON format.
+ */
+public final class StartupTaskTiming {
+
+    public static final String STARTUP_TIMING_FILE = "quarkus.debug.startup-timing-file";
+
+    private static final int SUMMARY_LIMIT = 10;
+
+    private static final List<TaskTiming> tasks = new ArrayList<>();
+    private static List<MethodTiming> currentMethods = new ArrayList<>();
+
+    private StartupTaskTiming() {
+    }
+
+    /**
+     * Invoked after a recorder method of the current task returns.
+     *
+     * @param method the name of the recorder method
+     * @param startNanos
+     */
+    public static synchronized void recorderMethodFinished(String method, long startNanos) {
+        currentMethods.add(new MethodTiming(method, System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Invoked after a startup task returns.
+     *
+     * @param task the name of the task
+     * @param staticInit
+     * @param startNanos
+     */
+    public static synchronized void taskFinished(String task, boolean staticInit, long startNanos) {
+        tasks.add(new TaskTiming(task, staticInit, startNanos, System.nanoTime() - startNanos, currentMethods));
+        currentMethods = new ArrayList<>();
+    }
+
+    /**
+     * Logs the summary, writes the JSON file if requested and discards the collected timing.
+     *
+     * @param bootStartNanos
+     */
+    static synchronized void report(long bootStartNanos) {
+        List<TaskTiming> reported = new ArrayList<>();
+        for (TaskTiming task : tasks) {
+            // In a native image the static init tasks are executed during the image build
+            if (!task.staticInit || !ImageInfo.inImageRuntimeCode()) {
+                reported.add(task);
+            }
+        }
+        tasks.clear();
+        currentMethods = new ArrayList<>();
+        if (reported.isEmpty()) {
+            return;
+        }
+        final Logger logger = Logger.getLogger("io.quarkus");
+        final String file = System.getProperty(STARTUP_TIMING_FILE);
+        if (file != null) {
+            try {
+                Files.write(Paths.get(file), toJson(reported, bootStartNanos).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                logger.warnf(e, "Unable to write the startup timing to %s", file);
+            }
+            logger.info(getSummary(reported));
+        } else if (logger.isDebugEnabled()) {
+            logger.debug(getSummary(reported));
+        }
+    }
+
+    static String getSummary(List<TaskTiming> tasks) {
+        final List<TaskTiming> slowest = new ArrayList<>(tasks);
+        slowest.sort(Comparator.comparingLong((TaskTiming t) -> t.durationNanos).reversed());
+        final StringBuilder b = new StringBuilder();
+        b.append(String.format(Locale.ROOT, "%d startup tasks executed, slowest tasks:%n", tasks.size()));
+        for (TaskTiming task : slowest.subList(0, Math.min(SUMMARY_LIMIT, slowest.size()))) {
+            b.append(String.format(Locale.ROOT, "\t%6d ms  %s [%s]%n", millis(task.durationNanos), task.name,
+                    task.staticInit ? "static init" : "runtime init"));
+            final List<MethodTiming> methods = new ArrayList<>(task.methods);
+            methods.sort(Comparator.comparingLong((MethodTiming m) -> m.durationNanos).reversed());
+            for (MethodTiming method : methods.subList(0, Math.min(3, methods.size()))) {
+                b.append(String.format(Locale.ROOT, "\t\t%6d ms  %s%n", millis(method.durationNanos), method.name));
+            }
+        }
+        return b.toString();
+    }
+
+    /**
+     * The times are in milliseconds and the start time of a task is relative to the boot start.
+     */
+    static String toJson(List<TaskTiming> tasks, long bootStartNanos) {
+        final StringBuilder b = new StringBuilder();
+        b.append("{\n  \"tasks\": [");
+        for (int i = 0; i < tasks.size(); i++) {
+            final TaskTiming task = tasks.get(i);
+            b.append(i == 0 ? "\n" : ",\n");
+            b.append("    {\"name\": \"").append(task.name).append('"');
+            b.append(", \"phase\": \"").append(task.staticInit ? "static-init" : "runtime-init").append('"');
+            b.append(", \"start\": ").append(fractionalMillis(task.startNanos - bootStartNanos));
+            b.append(", \"duration\": ").append(fractionalMillis(task.durationNanos));
+            b.append(", \"methods\": [");
+            for (int j = 0; j < task.methods.size(); j++) {
+                final MethodTiming method = task.methods.get(j);
+                b.append(j == 0 ? "" : ", ");
+                b.append("{\"name\": \"").append(method.name).append('"');
+                b.append(", \"duration\": ").append(fractionalMillis(method.durationNanos)).append('}');
+            }
+            b.append("]}");
+        }
+        b.append("\n  ]\n}\n");
+        return b.toString();
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static String fractionalMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    static final class TaskTiming {
+
+        // Names are generated class and method names, i.e. no escaping is needed in JSON
+        final String name;
+        final boolean staticInit;
+        final long startNanos;
+        final long durationNanos;
+        final List<MethodTiming> methods;
+
+        TaskTiming(String name, boolean staticInit, long startNanos, long durationNanos, List<MethodTiming> methods) {
+            this.name = name;
+            this.staticInit = staticInit;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.methods = methods;
+        }
+
+    }
+
+    static final class MethodTiming {
+
+        final String name;
+        final long durationNanos;
+
+        MethodTiming(String name, long durationNanos) {
+            this.name = name;
+            this.durationNanos = durationNanos;
+        }
+
+    }
+
+}
@@ -71,6 +71,7 @@ public class Timing {
         }
         logger.infof("Profile %s activated. %s", profile, liveCoding ? "Live Coding activated." : "");
         logger.infof("Installed features: [%s]", features);
+        StartupTaskTiming.report(bootStartTime);
         bootStartTime = -1;
     }
 
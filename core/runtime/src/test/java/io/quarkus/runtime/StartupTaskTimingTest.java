@@ -0,0 +1,39 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTaskTimingTest {
+
+    @Test
+    public void testSummaryAndJson() {
+        List<StartupTaskTiming.TaskTiming> tasks = new ArrayList<>();
+        tasks.add(new StartupTaskTiming.TaskTiming("FooProcessor#init", true, 1_000_000, 2_000_000,
+                Collections.singletonList(new StartupTaskTiming.MethodTiming("FooRecorder#init", 1_500_000))));
+        tasks.add(new StartupTaskTiming.TaskTiming("BarProcessor#start", false, 4_000_000, 30_000_000,
+                Arrays.asList(new StartupTaskTiming.MethodTiming("BarRecorder#alpha", 5_000_000),
+                        new StartupTaskTiming.MethodTiming("BarRecorder#bravo", 25_000_000))));
+
+        String summary = StartupTaskTiming.getSummary(tasks);
+        // The slowest task and method go first
+        assertTrue(summary.indexOf("BarProcessor#start") < summary.indexOf("FooProcessor#init"), summary);
+        assertTrue(summary.indexOf("BarRecorder#bravo") < summary.indexOf("BarRecorder#alpha"), summary);
+        assertTrue(summary.contains("30 ms  BarProcessor#start [runtime init]"), summary);
+
+        assertEquals("{\n  \"tasks\": [\n"
+                + "    {\"name\": \"FooProcessor#init\", \"phase\": \"static-init\", \"start\": 0.000, \"duration\": 2.000, "
+                + "\"methods\": [{\"name\": \"FooRecorder#init\", \"duration\": 1.500}]},\n"
+                + "    {\"name\": \"BarProcessor#start\", \"phase\": \"runtime-init\", \"start\": 3.000, \"duration\": 30.000, "
+                + "\"methods\": [{\"name\": \"BarRecorder#alpha\", \"duration\": 5.000}, "
+                + "{\"name\": \"BarRecorder#bravo\", \"duration\": 25.000}]}\n"
+                + "  ]\n}\n", StartupTaskTiming.toJson(tasks, 1_000_000));
+    }
+
+}
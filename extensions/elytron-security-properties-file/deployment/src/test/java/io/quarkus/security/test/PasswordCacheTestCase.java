@@ -0,0 +1,80 @@
+package io.quarkus.security.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.elytron.security.runtime.ElytronPasswordIdentityProvider;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests that the successful BASIC authentications are cached
+ */
+public class PasswordCacheTestCase {
+    static Class[] testClasses = {
+            TestSecureServlet.class, TestApplication.class, RolesEndpointClassLevel.class
+    };
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(testClasses)
+                    .addAsResource("application-password-cache.properties", "application.properties")
+                    .addAsResource("test-users.properties")
+                    .addAsResource("test-roles.properties"));
+
+    @Inject
+    ElytronPasswordIdentityProvider identityProvider;
+
+    @Test
+    public void testCachedAuthentication() {
+        IdentityCache cache = identityProvider.getCache();
+        identityProvider.invalidateAll();
+        long hits = cache.getHits();
+
+        RestAssured.given().auth().preemptive().basic("scott", "jb0ss")
+                .when().get("/jaxrs-secured/rolesClass").then()
+                .statusCode(200);
+        RestAssured.given().auth().preemptive().basic("scott", "jb0ss")
+                .when().get("/jaxrs-secured/rolesClass").then()
+                .statusCode(200);
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(1, cache.size());
+
+        // A wrong password is verified by the realm and the failure is not cached
+        RestAssured.given().auth().preemptive().basic("scott", "wrong")
+                .when().get("/jaxrs-secured/rolesClass").then()
+                .statusCode(401);
+        assertEquals(1, cache.size());
+
+        SecurityIdentity identity = cache.get("scott", "jb0ss".toCharArray());
+        assertNotNull(identity);
+        // The cached identity does not keep the password
+        assertNull(identity.getCredential(PasswordCredential.class));
+
+        long generation = cache.getGeneration();
+        identityProvider.invalidate("scott");
+        assertEquals(0, cache.size());
+        // An authentication which was in progress during the invalidation is not cached
+        cache.put("scott", "jb0ss".toCharArray(), identity, Long.MAX_VALUE, generation);
+        assertEquals(0, cache.size());
+
+        hits = cache.getHits();
+        RestAssured.given().auth().preemptive().basic("scott", "jb0ss")
+                .when().get("/jaxrs-secured/rolesClass").then()
+                .statusCode(200);
+        assertEquals(hits, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+}
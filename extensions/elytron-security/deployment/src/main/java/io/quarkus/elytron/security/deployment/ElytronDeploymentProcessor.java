@@ -19,6 +19,7 @@ import io.quarkus.elytron.security.runtime.ElytronRecorder;
 import io.quarkus.elytron.security.runtime.ElytronSecurityDomainManager;
 import io.quarkus.elytron.security.runtime.ElytronTokenIdentityProvider;
 import io.quarkus.elytron.security.runtime.ElytronTrustedIdentityProvider;
+import io.quarkus.elytron.security.runtime.PasswordCacheConfig;
 import io.quarkus.runtime.RuntimeValue;
 
 /**
@@ -112,6 +113,15 @@ class ElytronDeploymentProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void passwordCache(ElytronRecorder recorder, List<ElytronPasswordMarkerBuildItem> pw, BeanContainerBuildItem bc,
+            PasswordCacheConfig config) {
+        if (!pw.isEmpty()) {
+            recorder.configurePasswordCache(bc.getValue(), config);
+        }
+    }
+
     /**
      * For each SecurityRealm, load it's runtime state. This is currently a little strange due to how the AuthConfig is
      * downcast to the type of SecurityRealm configuration instance.
@@ -1,5 +1,6 @@
 package io.quarkus.elytron.security.runtime;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
@@ -16,6 +17,7 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 
 /**
@@ -32,6 +34,43 @@ public class ElytronPasswordIdentityProvider implements IdentityProvider<Usernam
     @Inject
     SecurityDomain domain;
 
+    private volatile IdentityCache cache;
+
+    /**
+     *
+     * @param cache the cache of successful authentications, may be {@code null}
+     */
+    public void setCache(IdentityCache cache) {
+        this.cache = cache;
+    }
+
+    public IdentityCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Removes the cached authentications of the given user, e.g. after the password or the roles of the user were changed.
+     * An authentication of the user which is in progress is not cached.
+     *
+     * @param username the username of the authentication requests, which may differ from the principal name
+     */
+    public void invalidate(String username) {
+        IdentityCache cache = this.cache;
+        if (cache != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    /**
+     * Removes all the cached authentications.
+     */
+    public void invalidateAll() {
+        IdentityCache cache = this.cache;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
     @Override
     public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
         return UsernamePasswordAuthenticationRequest.class;
@@ -40,6 +79,15 @@ public class ElytronPasswordIdentityProvider implements IdentityProvider<Usernam
     @Override
     public CompletionStage<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        IdentityCache cache = this.cache;
+        // The result is not cached if the user is invalidated in the meantime
+        long generation = cache != null ? cache.getGeneration() : 0;
+        if (cache != null) {
+            SecurityIdentity identity = cache.get(request.getUsername(), request.getPassword().getPassword());
+            if (identity != null) {
+                return CompletableFuture.completedFuture(identity);
+            }
+        }
         return context.runBlocking(new Supplier<SecurityIdentity>() {
             @Override
             public SecurityIdentity get() {
@@ -56,8 +104,17 @@ public class ElytronPasswordIdentityProvider implements IdentityProvider<Usernam
                     for (String i : result.getRoles()) {
                         builder.addRole(i);
                     }
-                    builder.addCredential(request.getPassword());
-                    return builder.build();
+                    if (cache == null) {
+                        // A cached identity must not keep the password in memory
+                        builder.addCredential(request.getPassword());
+                    }
+                    SecurityIdentity identity = builder.build();
+                    if (cache != null) {
+                        // Only the successful authentications are cached, the password does not expire
+                        cache.put(request.getUsername(), request.getPassword().getPassword(), identity, Long.MAX_VALUE,
+                                generation);
+                    }
+                    return identity;
                 } catch (RealmUnavailableException e) {
                     throw new RuntimeException(e);
                 } catch (SecurityException e) {
@@ -19,6 +19,7 @@ import org.wildfly.security.permission.PermissionVerifier;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.security.runtime.IdentityCache;
 
 /**
  * The runtime security recorder class that provides methods for creating RuntimeValues for the deployment security objects.
@@ -35,6 +36,13 @@ public class ElytronRecorder {
         bc.instance(ElytronSecurityDomainManager.class).setDomain(domain.getValue());
     }
 
+    public void configurePasswordCache(BeanContainer bc, PasswordCacheConfig config) {
+        if (config.enabled) {
+            bc.instance(ElytronPasswordIdentityProvider.class)
+                    .setCache(new IdentityCache(config.maxSize, config.ttl.toMillis()));
+        }
+    }
+
     /**
      * Create a {@linkplain SecurityDomain.Builder} for the given default {@linkplain SecurityRealm}.
      *
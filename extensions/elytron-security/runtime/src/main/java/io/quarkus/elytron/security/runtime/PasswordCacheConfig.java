@@ -0,0 +1,43 @@
+package io.quarkus.elytron.security.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Configuration of the cache of the successful username and password authentications.
+ */
+@ConfigRoot(name = "security.password-cache", phase = ConfigPhase.RUN_TIME)
+public class PasswordCacheConfig {
+
+    /**
+     * If enabled, the security identity created for a username and password is reused for the subsequent requests with the
+     * same credentials, i.e. the security realm is not queried and the password is not verified again, until the entry
+     * expires.
+     * <p>
+     * Note that a change of the password or of the roles in the security realm is not visible until the entry expires,
+     * unless the cache is invalidated with {@link ElytronPasswordIdentityProvider#invalidate(String)}.
+     * <p>
+     * The passwords are not stored, the cache is keyed by an HMAC of the username and the password with a secret key generated
+     * randomly at startup. However a heap dump contains both the secret key and the keys of the cache, so the passwords of the
+     * cached users could be guessed offline without the cost of the password hashing of the security realm, e.g. bcrypt.
+     * Do not enable the cache if the heap dumps of the application are not protected as well as the passwords.
+     * The security identities do not contain the password credential if the cache is enabled.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The maximum number of cached authentications.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * The amount of time an authentication is cached.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration ttl;
+}
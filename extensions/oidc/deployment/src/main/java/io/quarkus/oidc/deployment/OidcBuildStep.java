@@ -12,6 +12,7 @@ import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.EnableAllSecurityServicesBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.oidc.runtime.BearerAuthenticationMechanism;
 import io.quarkus.oidc.runtime.CodeAuthenticationMechanism;
 import io.quarkus.oidc.runtime.OidcBuildTimeConfig;
@@ -70,8 +71,8 @@ public class OidcBuildStep {
     @Record(ExecutionTime.RUNTIME_INIT)
     @BuildStep(onlyIf = IsEnabled.class)
     public void setup(OidcConfig config, OidcRecorder recorder, InternalWebVertxBuildItem vertxBuildItem,
-            BeanContainerBuildItem bc) {
-        recorder.setup(config, buildTimeConfig, vertxBuildItem.getVertx(), bc.getValue());
+            BeanContainerBuildItem bc, ShutdownContextBuildItem shutdown) {
+        recorder.setup(config, buildTimeConfig, vertxBuildItem.getVertx(), bc.getValue(), shutdown);
     }
 
     static class IsEnabled implements BooleanSupplier {
@@ -0,0 +1,65 @@
+package io.quarkus.oidc.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.auth.oauth2.OAuth2Auth;
+
+/**
+ * Refreshes the JWK set which is used to verify the tokens locally.
+ * <p>
+ * The refresh is scheduled periodically and is also requested when a token is signed with an unknown key, e.g. after the
+ * keys have been rotated by the OIDC server. The refreshes are rate limited so that the tokens with unknown key identifiers
+ * cannot overload the OIDC server.
+ */
+public class JwksRefresher implements Handler<String> {
+
+    private static final Logger LOG = Logger.getLogger(JwksRefresher.class);
+
+    private final OAuth2Auth auth;
+    private final long minRefreshIntervalMillis;
+    private final AtomicBoolean inProgress = new AtomicBoolean();
+    private volatile long lastRefresh;
+
+    public JwksRefresher(OAuth2Auth auth, long minRefreshIntervalMillis) {
+        this.auth = auth;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        // The keys are loaded during the discovery
+        this.lastRefresh = System.currentTimeMillis();
+    }
+
+    /**
+     * Invoked when a token is signed with a key which is not in the JWK set.
+     *
+     * @param kid the key identifier
+     */
+    @Override
+    public void handle(String kid) {
+        LOG.debugf("No key with the id %s is available", kid);
+        refresh();
+    }
+
+    /**
+     *
+     * @return {@code true} if the refresh was started, {@code false} if it was skipped
+     */
+    public boolean refresh() {
+        long now = System.currentTimeMillis();
+        if (now - lastRefresh < minRefreshIntervalMillis || !inProgress.compareAndSet(false, true)) {
+            return false;
+        }
+        lastRefresh = now;
+        auth.loadJWK(result -> {
+            inProgress.set(false);
+            if (result.failed()) {
+                LOG.warnf(result.cause(), "Unable to refresh the JWK set");
+            } else {
+                LOG.debug("The JWK set has been refreshed");
+            }
+        });
+        return true;
+    }
+
+}
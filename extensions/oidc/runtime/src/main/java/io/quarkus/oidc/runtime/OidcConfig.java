@@ -40,6 +40,22 @@ public class OidcConfig {
     @ConfigItem
     Optional<String> publicKey;
 
+    /**
+     * How often the JWK set is refreshed in the background.
+     * The refreshed keys are used to verify the tokens locally, without calling the OIDC server for every request.
+     * This property is ignored if the 'public-key' property is set.
+     */
+    @ConfigItem(defaultValue = "10M")
+    Duration jwksRefreshInterval;
+
+    /**
+     * The minimum amount of time between two refreshes of the JWK set.
+     * An unscheduled refresh is requested when a token is signed with a key which is not in the JWK set yet,
+     * this property prevents the tokens with unknown key identifiers from overloading the OIDC server.
+     */
+    @ConfigItem(defaultValue = "10S")
+    Duration jwksMinRefreshInterval;
+
     /**
      * The client-id of the application. Each application has a client-id that is used to identify the application
      */
@@ -71,6 +87,12 @@ public class OidcConfig {
     @ConfigItem
     Credentials credentials;
 
+    /**
+     * Configuration of the cache of the verified tokens.
+     */
+    @ConfigItem
+    TokenCache tokenCache;
+
     /**
      * Different options to configure authorization requests
      */
@@ -106,6 +128,29 @@ public class OidcConfig {
         }
     }
 
+    @ConfigGroup
+    public static class TokenCache {
+
+        /**
+         * If enabled, the identity created for a verified token is cached until the token expires
+         * so that the repeated requests with the same token are not verified again.
+         */
+        @ConfigItem
+        boolean enabled;
+
+        /**
+         * The maximum number of the cached tokens.
+         */
+        @ConfigItem(defaultValue = "1000")
+        int maxSize;
+
+        /**
+         * The maximum amount of time a token is cached for, even if it expires later.
+         */
+        @ConfigItem(defaultValue = "5M")
+        Duration maxTtl;
+    }
+
     @ConfigGroup
     public static class Roles {
 
@@ -5,9 +5,8 @@ import java.util.concurrent.CompletionStage;
 
 import javax.enterprise.context.ApplicationScoped;
 
+import org.eclipse.microprofile.jwt.Claims;
 import org.eclipse.microprofile.jwt.JsonWebToken;
-import org.jose4j.jwt.JwtClaims;
-import org.jose4j.jwt.consumer.InvalidJwtException;
 
 import io.quarkus.oidc.OIDCException;
 import io.quarkus.security.AuthenticationFailedException;
@@ -16,6 +15,7 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
@@ -27,6 +27,7 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
 
     private volatile OAuth2Auth auth;
     private volatile OidcConfig config;
+    private volatile IdentityCache identityCache;
 
     public OAuth2Auth getAuth() {
         return auth;
@@ -42,6 +43,20 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
         return this;
     }
 
+    /**
+     *
+     * @param identityCache the cache of verified tokens, may be {@code null}
+     * @return self
+     */
+    public OidcIdentityProvider setIdentityCache(IdentityCache identityCache) {
+        this.identityCache = identityCache;
+        return this;
+    }
+
+    public IdentityCache getIdentityCache() {
+        return identityCache;
+    }
+
     @Override
     public Class<TokenAuthenticationRequest> getRequestType() {
         return TokenAuthenticationRequest.class;
@@ -51,8 +66,16 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     @Override
     public CompletionStage<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String rawToken = request.getToken().getToken();
+        IdentityCache cache = identityCache;
+        if (cache != null) {
+            SecurityIdentity identity = cache.get(rawToken);
+            if (identity != null) {
+                return CompletableFuture.completedFuture(identity);
+            }
+        }
         CompletableFuture<SecurityIdentity> result = new CompletableFuture<>();
-        auth.decodeToken(request.getToken().getToken(), new Handler<AsyncResult<AccessToken>>() {
+        auth.decodeToken(rawToken, new Handler<AsyncResult<AccessToken>>() {
             @Override
             public void handle(AsyncResult<AccessToken> event) {
                 if (event.failed()) {
@@ -69,13 +92,7 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
 
                 QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder();
 
-                JsonWebToken jwtPrincipal;
-                try {
-                    jwtPrincipal = new OidcJwtCallerPrincipal(JwtClaims.parse(token.accessToken().encode()));
-                } catch (InvalidJwtException e) {
-                    result.completeExceptionally(new AuthenticationFailedException(e));
-                    return;
-                }
+                JsonWebToken jwtPrincipal = new OidcJwtCallerPrincipal(OidcUtils.toJwtClaims(token.accessToken()));
                 builder.setPrincipal(jwtPrincipal);
                 try {
                     String clientId = config.getClientId().isPresent() ? config.getClientId().get() : null;
@@ -88,7 +105,12 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
                 }
 
                 builder.addCredential(request.getToken());
-                result.complete(builder.build());
+                SecurityIdentity identity = builder.build();
+                Long exp = token.accessToken().getLong(Claims.exp.name());
+                if (cache != null && exp != null) {
+                    cache.put(rawToken, identity, exp * 1000);
+                }
+                result.complete(identity);
             }
         });
 
@@ -7,7 +7,9 @@ import org.jboss.logging.Logger;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.oidc.OIDCException;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.security.runtime.IdentityCache;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -21,7 +23,8 @@ public class OidcRecorder {
 
     private static final Logger LOG = Logger.getLogger(OidcRecorder.class);
 
-    public void setup(OidcConfig config, OidcBuildTimeConfig btConfig, RuntimeValue<Vertx> vertx, BeanContainer beanContainer) {
+    public void setup(OidcConfig config, OidcBuildTimeConfig btConfig, RuntimeValue<Vertx> vertx, BeanContainer beanContainer,
+            ShutdownContext shutdown) {
         OAuth2ClientOptions options = new OAuth2ClientOptions();
 
         // Base IDP server URL
@@ -90,9 +93,25 @@ public class OidcRecorder {
             }
         }
 
+        if (!config.publicKey.isPresent()) {
+            // The tokens are verified with the keys loaded during the discovery, keep the keys up to date
+            JwksRefresher refresher = new JwksRefresher(auth, config.jwksMinRefreshInterval.toMillis());
+            auth.missingKeyHandler(refresher);
+            long timerId = vertx.getValue().setPeriodic(config.jwksRefreshInterval.toMillis(), id -> refresher.refresh());
+            shutdown.addShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    vertx.getValue().cancelTimer(timerId);
+                }
+            });
+        }
+
         OidcIdentityProvider identityProvider = beanContainer.instance(OidcIdentityProvider.class);
         identityProvider.setAuth(auth);
         identityProvider.setConfig(config);
+        identityProvider.setIdentityCache(config.tokenCache.enabled
+                ? new IdentityCache(config.tokenCache.maxSize, config.tokenCache.maxTtl.toMillis())
+                : null);
         AbstractOidcAuthenticationMechanism mechanism = null;
 
         if (OidcBuildTimeConfig.ApplicationType.SERVICE.equals(btConfig.applicationType)) {
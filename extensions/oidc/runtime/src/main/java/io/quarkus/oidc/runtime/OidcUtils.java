@@ -3,10 +3,13 @@ package io.quarkus.oidc.runtime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.microprofile.jwt.Claims;
+import org.jose4j.jwt.JwtClaims;
 
 import io.quarkus.oidc.OIDCException;
 import io.vertx.core.json.JsonArray;
@@ -103,4 +106,38 @@ public final class OidcUtils {
         }
         return list;
     }
+
+    /**
+     * Converts the claims which have already been decoded by Vert.x, i.e. the token is not parsed again.
+     * The values have the same types as if the claims were parsed by jose4j.
+     */
+    public static JwtClaims toJwtClaims(JsonObject json) {
+        JwtClaims claims = new JwtClaims();
+        for (Map.Entry<String, Object> claim : json) {
+            claims.setClaim(claim.getKey(), toClaimValue(claim.getValue()));
+        }
+        return claims;
+    }
+
+    private static Object toClaimValue(Object value) {
+        if (value instanceof JsonObject) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : (JsonObject) value) {
+                map.put(entry.getKey(), toClaimValue(entry.getValue()));
+            }
+            return map;
+        } else if (value instanceof JsonArray) {
+            JsonArray array = (JsonArray) value;
+            List<Object> list = new ArrayList<>(array.size());
+            for (Object element : array) {
+                list.add(toClaimValue(element));
+            }
+            return list;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        return value;
+    }
 }
@@ -0,0 +1,195 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwk.RsaJwkGenerator;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwt.JwtClaims;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.auth.oauth2.OAuth2Auth;
+import io.vertx.ext.auth.oauth2.OAuth2ClientOptions;
+import io.vertx.ext.auth.oauth2.OAuth2FlowType;
+
+/**
+ * Tests the refresh of a JWK set served by a local HTTP server.
+ */
+public class JwksRefresherTest {
+
+    private static final long TIMEOUT = 10000;
+
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static final AtomicInteger requests = new AtomicInteger();
+    private static volatile JsonWebKeySet keys;
+
+    private static RsaJsonWebKey key1;
+    private static RsaJsonWebKey key2;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        key1 = generateKey("key1");
+        key2 = generateKey("key2");
+        vertx = Vertx.vertx();
+        CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        vertx.createHttpServer().requestHandler(request -> {
+            requests.incrementAndGet();
+            request.response().putHeader("Content-Type", "application/json")
+                    .end(keys.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY));
+        }).listen(0, "localhost", result -> {
+            if (result.succeeded()) {
+                started.complete(result.result());
+            } else {
+                started.completeExceptionally(result.cause());
+            }
+        });
+        server = started.get(TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        if (vertx != null) {
+            vertx.close();
+        }
+    }
+
+    @BeforeEach
+    public void reset() {
+        keys = new JsonWebKeySet(key1);
+    }
+
+    @Test
+    public void testRefreshOnUnknownKey() throws Exception {
+        OAuth2Auth auth = createAuth();
+        JwksRefresher refresher = new JwksRefresher(auth, 0);
+        assertTrue(verify(auth, sign(key1)));
+
+        // The keys are rotated, the new key is not known yet
+        keys = new JsonWebKeySet(key1, key2);
+        String token = sign(key2);
+        assertFalse(verify(auth, token));
+
+        refresher.handle(key2.getKeyId());
+        awaitRequests(1);
+        awaitVerified(auth, token);
+    }
+
+    @Test
+    public void testPeriodicRefresh() throws Exception {
+        OAuth2Auth auth = createAuth();
+        JwksRefresher refresher = new JwksRefresher(auth, 0);
+        keys = new JsonWebKeySet(key2);
+        String token = sign(key2);
+        assertFalse(verify(auth, token));
+
+        long timerId = vertx.setPeriodic(50, id -> refresher.refresh());
+        try {
+            awaitRequests(3);
+            awaitVerified(auth, token);
+        } finally {
+            vertx.cancelTimer(timerId);
+        }
+    }
+
+    @Test
+    public void testMinRefreshInterval() throws Exception {
+        OAuth2Auth auth = createAuth();
+        // The keys were just loaded
+        JwksRefresher refresher = new JwksRefresher(auth, 60000);
+        assertFalse(refresher.refresh());
+        refresher.handle("unknown");
+        assertEquals(0, requests.get());
+
+        refresher = new JwksRefresher(auth, 200);
+        assertFalse(refresher.refresh());
+        Thread.sleep(300);
+        assertTrue(refresher.refresh());
+        // Too early
+        assertFalse(refresher.refresh());
+        refresher.handle("unknown");
+        awaitRequests(1);
+        Thread.sleep(100);
+        assertEquals(1, requests.get());
+    }
+
+    private static OAuth2Auth createAuth() throws Exception {
+        OAuth2ClientOptions options = new OAuth2ClientOptions()
+                .setSite("http://localhost:" + server.actualPort())
+                .setJwkPath("/jwks");
+        @SuppressWarnings("deprecation")
+        OAuth2Auth auth = OAuth2Auth.create(vertx, OAuth2FlowType.AUTH_CODE, options);
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        auth.loadJWK(result -> {
+            if (result.succeeded()) {
+                loaded.complete(null);
+            } else {
+                loaded.completeExceptionally(result.cause());
+            }
+        });
+        loaded.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        requests.set(0);
+        return auth;
+    }
+
+    private static boolean verify(OAuth2Auth auth, String token) throws Exception {
+        CompletableFuture<Boolean> verified = new CompletableFuture<>();
+        auth.decodeToken(token, result -> verified.complete(result.succeeded()));
+        return verified.get(TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    private static void awaitVerified(OAuth2Auth auth, String token) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!verify(auth, token)) {
+            assertTrue(System.currentTimeMillis() < deadline, "The token was not verified with the refreshed keys");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitRequests(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (requests.get() < expected) {
+            assertTrue(System.currentTimeMillis() < deadline, "Expected " + expected + " JWK set requests");
+            Thread.sleep(10);
+        }
+    }
+
+    static RsaJsonWebKey generateKey(String kid) throws Exception {
+        RsaJsonWebKey key = RsaJwkGenerator.generateJwk(2048);
+        key.setKeyId(kid);
+        key.setAlgorithm(AlgorithmIdentifiers.RSA_USING_SHA256);
+        key.setUse("sig");
+        return key;
+    }
+
+    static String sign(RsaJsonWebKey key) throws Exception {
+        JwtClaims claims = new JwtClaims();
+        claims.setSubject("alice");
+        claims.setIssuedAtToNow();
+        claims.setExpirationTimeMinutesInTheFuture(5);
+        return sign(key, claims);
+    }
+
+    static String sign(RsaJsonWebKey key, JwtClaims claims) throws Exception {
+        JsonWebSignature jws = new JsonWebSignature();
+        jws.setPayload(claims.toJson());
+        jws.setKey(key.getPrivateKey());
+        jws.setKeyIdHeaderValue(key.getKeyId());
+        jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+        return jws.getCompactSerialization();
+    }
+}
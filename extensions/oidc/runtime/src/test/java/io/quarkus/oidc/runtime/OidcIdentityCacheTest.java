@@ -0,0 +1,141 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jose4j.jwk.RsaJsonWebKey;
+import org.jose4j.jwt.JwtClaims;
+import org.jose4j.jwt.NumericDate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
+import io.vertx.core.Vertx;
+import io.vertx.ext.auth.PubSecKeyOptions;
+import io.vertx.ext.auth.oauth2.OAuth2Auth;
+import io.vertx.ext.auth.oauth2.OAuth2ClientOptions;
+import io.vertx.ext.auth.oauth2.OAuth2FlowType;
+
+/**
+ * Tests that the identities created for the tokens verified with a local key are cached until the token expires.
+ */
+public class OidcIdentityCacheTest {
+
+    private static Vertx vertx;
+    private static RsaJsonWebKey key;
+    private static OAuth2Auth auth;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        key = JwksRefresherTest.generateKey(null);
+        vertx = Vertx.vertx();
+        OAuth2ClientOptions options = new OAuth2ClientOptions()
+                .setSite("http://localhost")
+                .addPubSecKey(new PubSecKeyOptions()
+                        .setAlgorithm("RS256")
+                        .setPublicKey(Base64.getEncoder().encodeToString(key.getPublicKey().getEncoded())));
+        @SuppressWarnings("deprecation")
+        OAuth2Auth oauth2 = OAuth2Auth.create(vertx, OAuth2FlowType.AUTH_CODE, options);
+        auth = oauth2;
+    }
+
+    @AfterAll
+    public static void close() {
+        if (vertx != null) {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void testCacheHit() throws Exception {
+        IdentityCache cache = new IdentityCache(10, 60000);
+        OidcIdentityProvider provider = createProvider(cache);
+        String token = JwksRefresherTest.sign(key, claims(300));
+
+        SecurityIdentity identity = authenticate(provider, token);
+        assertEquals("alice", identity.getPrincipal().getName());
+        assertTrue(identity.hasRole("user"));
+        assertEquals(0, cache.getHits());
+        assertSame(identity, authenticate(provider, token));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size());
+
+        // Another token is verified
+        SecurityIdentity other = authenticate(provider, JwksRefresherTest.sign(key, claims(400)));
+        assertNotSame(identity, other);
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testMaxTtl() throws Exception {
+        IdentityCache cache = new IdentityCache(10, 200);
+        OidcIdentityProvider provider = createProvider(cache);
+        String token = JwksRefresherTest.sign(key);
+
+        SecurityIdentity identity = authenticate(provider, token);
+        assertSame(identity, authenticate(provider, token));
+        Thread.sleep(300);
+        // The token is still valid and verified again
+        assertNotSame(identity, authenticate(provider, token));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testTokenExpiry() throws Exception {
+        IdentityCache cache = new IdentityCache(10, 60000);
+        OidcIdentityProvider provider = createProvider(cache);
+        JwtClaims claims = claims(2);
+        String token = JwksRefresherTest.sign(key, claims);
+
+        SecurityIdentity identity = authenticate(provider, token);
+        assertSame(identity, authenticate(provider, token));
+        Thread.sleep(claims.getExpirationTime().getValueInMillis() - System.currentTimeMillis() + 1100);
+        // The cached identity does not outlive the token
+        try {
+            authenticate(provider, token);
+            fail("The token has expired");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AuthenticationFailedException);
+        }
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.size());
+    }
+
+    private static OidcIdentityProvider createProvider(IdentityCache cache) {
+        OidcConfig config = new OidcConfig();
+        config.clientId = Optional.empty();
+        config.roles = OidcConfig.Roles.fromClaimPath(null);
+        config.token = new OidcConfig.Token();
+        config.token.issuer = Optional.empty();
+        config.token.audience = Optional.empty();
+        return new OidcIdentityProvider().setAuth(auth).setConfig(config).setIdentityCache(cache);
+    }
+
+    private static SecurityIdentity authenticate(OidcIdentityProvider provider, String token) throws Exception {
+        return provider.authenticate(new TokenAuthenticationRequest(new TokenCredential(token, "bearer")), null)
+                .toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    private static JwtClaims claims(long expiresInSeconds) {
+        JwtClaims claims = new JwtClaims();
+        claims.setSubject("alice");
+        claims.setStringListClaim("groups", "user");
+        claims.setIssuedAtToNow();
+        claims.setExpirationTime(NumericDate.fromSeconds(System.currentTimeMillis() / 1000 + expiresInSeconds));
+        return claims;
+    }
+}
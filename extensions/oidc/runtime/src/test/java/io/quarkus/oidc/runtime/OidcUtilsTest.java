@@ -12,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.jose4j.jwt.JwtClaims;
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.oidc.OIDCException;
@@ -164,6 +165,16 @@ public class OidcUtilsTest {
         }
     }
 
+    @Test
+    public void testToJwtClaims() throws Exception {
+        JsonObject json = read(getClass().getResourceAsStream("/tokenKeycloakResourceAccess.json"));
+        json.put("ratio", 0.5f);
+        JwtClaims claims = OidcUtils.toJwtClaims(json);
+        // The claims are the same as if the token was parsed
+        assertEquals(JwtClaims.parse(json.encode()).getClaimsMap(), claims.getClaimsMap());
+        assertEquals(1311281970L, claims.getExpirationTime().getValue());
+    }
+
     public static JsonObject read(InputStream input) throws IOException {
         try (BufferedReader buffer = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
             return new JsonObject(buffer.lines().collect(Collectors.joining("\n")));
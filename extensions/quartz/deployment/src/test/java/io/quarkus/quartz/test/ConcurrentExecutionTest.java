@@ -0,0 +1,79 @@
+package io.quarkus.quartz.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testConcurrentExecution() throws InterruptedException {
+        assertTrue(Jobs.SKIP_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.QUEUE_LATCH.await(5, TimeUnit.SECONDS));
+        // Executions of the same method never overlap
+        assertEquals(1, Jobs.SKIP_MAX_RUNNING.get());
+        assertEquals(1, Jobs.QUEUE_MAX_RUNNING.get());
+        assertTrue(Jobs.SKIPPED.get() > 0);
+        // At most one execution is queued, the other ones are skipped
+        assertTrue(Jobs.QUEUE_SKIPPED.get() > 0);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch SKIP_LATCH = new CountDownLatch(3);
+        static final CountDownLatch QUEUE_LATCH = new CountDownLatch(3);
+        static final AtomicInteger SKIP_RUNNING = new AtomicInteger();
+        static final AtomicInteger SKIP_MAX_RUNNING = new AtomicInteger();
+        static final AtomicInteger QUEUE_RUNNING = new AtomicInteger();
+        static final AtomicInteger QUEUE_MAX_RUNNING = new AtomicInteger();
+        static final AtomicLong SKIPPED = new AtomicLong();
+        static final AtomicLong QUEUE_SKIPPED = new AtomicLong();
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void skip(ScheduledExecution execution) {
+            run(SKIP_RUNNING, SKIP_MAX_RUNNING);
+            SKIPPED.set(execution.getSkippedExecutions());
+            SKIP_LATCH.countDown();
+        }
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.QUEUE)
+        void queue(ScheduledExecution execution) {
+            run(QUEUE_RUNNING, QUEUE_MAX_RUNNING);
+            QUEUE_SKIPPED.set(execution.getSkippedExecutions());
+            QUEUE_LATCH.countDown();
+        }
+
+        private static void run(AtomicInteger running, AtomicInteger maxRunning) {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(350);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+    }
+
+}
@@ -6,7 +6,10 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
@@ -27,6 +30,7 @@ import org.quartz.SchedulerFactory;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.TriggerBuilder;
 import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.listeners.TriggerListenerSupport;
 import org.quartz.spi.JobFactory;
 import org.quartz.spi.TriggerFiredBundle;
 
@@ -39,6 +43,7 @@ import com.cronutils.parser.CronParser;
 
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.Trigger;
@@ -55,16 +60,20 @@ public class QuartzScheduler implements Scheduler {
     private final org.quartz.Scheduler scheduler;
     private final AtomicInteger triggerNameSequence;
     private final Map<String, ScheduledInvoker> invokers;
+    // Keyed by the trigger name
+    private final Map<String, TriggerState> triggers;
 
     public QuartzScheduler(SchedulerSupport schedulerSupport, QuartzSupport quartzSupport, Config config) {
         if (schedulerSupport.getScheduledMethods().isEmpty()) {
             this.triggerNameSequence = null;
             this.scheduler = null;
             this.invokers = null;
+            this.triggers = null;
 
         } else {
             this.triggerNameSequence = new AtomicInteger();
             this.invokers = new HashMap<>();
+            this.triggers = new HashMap<>();
 
             try {
                 Properties props = getSchedulerConfigurationProperties(quartzSupport);
@@ -84,6 +93,21 @@ public class QuartzScheduler implements Scheduler {
                         throw new IllegalStateException("Unsupported job class: " + jobClass);
                     }
                 });
+                scheduler.getListenerManager().addTriggerListener(new TriggerListenerSupport() {
+
+                    @Override
+                    public String getName() {
+                        return QuartzScheduler.class.getName();
+                    }
+
+                    @Override
+                    public void triggerMisfired(org.quartz.Trigger trigger) {
+                        TriggerState state = triggers.get(trigger.getKey().getName());
+                        if (state != null) {
+                            state.missed.incrementAndGet();
+                        }
+                    }
+                });
 
                 CronType cronType = schedulerSupport.getCronType();
                 CronDefinition def = CronDefinitionBuilder.instanceDefinitionFor(cronType);
@@ -153,6 +177,7 @@ public class QuartzScheduler implements Scheduler {
                         if (scheduler.checkExists(job.getKey())) {
                             scheduler.deleteJob(job.getKey());
                         }
+                        triggers.put(name + "_trigger", new TriggerState(scheduled.concurrentExecution()));
                         scheduler.scheduleJob(job, triggerBuilder.build());
                         LOGGER.debugf("Scheduled business method %s with config %s", method.getMethodDescription(),
                                 scheduled);
@@ -288,7 +313,17 @@ public class QuartzScheduler implements Scheduler {
             };
             String invokerClass = context.getJobDetail().getJobDataMap().getString(INVOKER_KEY);
             ScheduledInvoker scheduledInvoker = invokers.get(invokerClass);
-            if (scheduledInvoker != null) { // could be null from previous runs
+            TriggerState state = triggers.get(context.getTrigger().getKey().getName());
+            if (scheduledInvoker == null || state == null) {
+                // could be null from previous runs
+                return;
+            }
+            if (!state.tryAcquire()) {
+                LOGGER.debugf("Trigger %s not executed - previous execution in progress", trigger.getId());
+                return;
+            }
+            Instant startTime = Instant.now();
+            try {
                 scheduledInvoker.invoke(new ScheduledExecution() {
                     @Override
                     public Trigger getTrigger() {
@@ -304,9 +339,97 @@ public class QuartzScheduler implements Scheduler {
                     public Instant getFireTime() {
                         return context.getFireTime().toInstant();
                     }
+
+                    @Override
+                    public Duration getLateness() {
+                        Duration lateness = Duration.between(getScheduledFireTime(), startTime);
+                        return lateness.isNegative() ? Duration.ZERO : lateness;
+                    }
+
+                    @Override
+                    public long getSkippedExecutions() {
+                        return state.skipped.get();
+                    }
+
+                    @Override
+                    public long getMissedExecutions() {
+                        return state.missed.get();
+                    }
                 });
+            } finally {
+                state.release();
+            }
+        }
+    }
+
+    static final class TriggerState {
+
+        final ConcurrentExecution concurrentExecution;
+        final AtomicLong skipped;
+        final AtomicLong missed;
+        // Only used if executions are skipped
+        private final AtomicBoolean running;
+        // Only used if executions are queued - the number of running and waiting executions
+        private final AtomicInteger executions;
+        private final Semaphore lock;
+
+        TriggerState(ConcurrentExecution concurrentExecution) {
+            this.concurrentExecution = concurrentExecution;
+            this.skipped = new AtomicLong();
+            this.missed = new AtomicLong();
+            this.running = new AtomicBoolean();
+            this.executions = new AtomicInteger();
+            this.lock = new Semaphore(1, true);
+        }
+
+        /**
+         * A queued execution blocks its Quartz worker thread until the previous execution completes.
+         *
+         * @return {@code true} if the job should be executed, {@code false} if the execution is skipped
+         */
+        boolean tryAcquire() {
+            switch (concurrentExecution) {
+                case SKIP:
+                    if (running.compareAndSet(false, true)) {
+                        return true;
+                    }
+                    skipped.incrementAndGet();
+                    return false;
+                case QUEUE:
+                    // At most one execution is running and one is waiting
+                    if (executions.incrementAndGet() > 2) {
+                        executions.decrementAndGet();
+                        skipped.incrementAndGet();
+                        return false;
+                    }
+                    try {
+                        lock.acquire();
+                        return true;
+                    } catch (InterruptedException e) {
+                        executions.decrementAndGet();
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                default:
+                    return true;
             }
         }
+
+        void release() {
+            switch (concurrentExecution) {
+                case SKIP:
+                    running.set(false);
+                    break;
+                case QUEUE:
+                    // The waiting execution is counted before it starts
+                    executions.decrementAndGet();
+                    lock.release();
+                    break;
+                default:
+                    break;
+            }
+        }
+
     }
 
 }
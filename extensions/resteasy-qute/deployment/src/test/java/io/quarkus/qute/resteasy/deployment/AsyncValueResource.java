@@ -0,0 +1,54 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.ValueResolver;
+
+@Path("async")
+public class AsyncValueResource {
+
+    @Inject
+    Template async;
+
+    @GET
+    public TemplateInstance get() {
+        return async.data("name", "joe");
+    }
+
+    void addAsyncResolver(@Observes EngineBuilder builder) {
+        builder.addValueResolver(new ValueResolver() {
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getBase() instanceof String && context.getName().equals("delayed");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                // The value is not available when the template is rendered
+                CompletableFuture<Object> result = new CompletableFuture<>();
+                new Thread(() -> {
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    result.complete(context.getBase().toString().toUpperCase());
+                }).start();
+                return result;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+import org.reactivestreams.Publisher;
+
+import io.quarkus.qute.ResultNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.TemplateInstanceBase;
+
+@Path("streaming")
+public class StreamingResource {
+
+    @Inject
+    Template hello;
+
+    @GET
+    public TemplateInstance get(@QueryParam("name") String name) {
+        return new ResolveOnlyInstance(hello.data("name", name));
+    }
+
+    /**
+     * Fails if the template is rendered to a {@link String} or consumed in chunks.
+     */
+    static class ResolveOnlyInstance extends TemplateInstanceBase {
+
+        private final TemplateInstance delegate;
+
+        ResolveOnlyInstance(TemplateInstance delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletionStage<ResultNode> resolve() {
+            return delegate.resolve();
+        }
+
+        @Override
+        public String render() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<String> renderAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Publisher<String> publisher() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Void> consume(Consumer<String> consumer) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
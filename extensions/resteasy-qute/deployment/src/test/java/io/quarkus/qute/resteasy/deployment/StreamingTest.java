@@ -0,0 +1,28 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(StreamingResource.class)
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt"));
+
+    @Test
+    public void testResolvedTreeIsWrittenAsBytes() {
+        // The instance fails if the filter renders the template to a String
+        when().get("/streaming?name=Jürgen").then().statusCode(200).body(Matchers.is("Hello Jürgen!"));
+    }
+
+}
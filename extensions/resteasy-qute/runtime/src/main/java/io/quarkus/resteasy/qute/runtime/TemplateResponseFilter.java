@@ -4,7 +4,9 @@ import static io.quarkus.qute.api.VariantTemplate.SELECTED_VARIANT;
 import static io.quarkus.qute.api.VariantTemplate.VARIANTS;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.container.ContainerRequestContext;
@@ -12,10 +14,12 @@ import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.ext.Provider;
 
 import org.jboss.resteasy.core.interception.jaxrs.SuspendableContainerResponseContext;
 
+import io.quarkus.qute.ResultNode;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.quarkus.qute.api.VariantTemplate;
@@ -28,9 +32,6 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
             throws IOException {
         Object entity = responseContext.getEntity();
         if (entity instanceof TemplateInstance) {
-            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
-            ctx.suspend();
-
             MediaType mediaType;
             TemplateInstance rendering = (TemplateInstance) entity;
 
@@ -54,27 +55,62 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                 mediaType = null;
             }
 
+            // The values are resolved first so that the response is only suspended if a value is resolved asynchronously
+            CompletableFuture<ResultNode> result;
             try {
-                rendering.renderAsync()
-                        .whenComplete((r, t) -> {
-                            if (t == null) {
-                                Response resp = Response.ok(r, mediaType).build();
-                                // make sure we avoid setting a null media type because that causes
-                                // an NPE further down
-                                if (resp.getMediaType() != null) {
-                                    ctx.setEntity(resp.getEntity(), null, resp.getMediaType());
-                                } else {
-                                    ctx.setEntity(resp.getEntity());
-                                }
-                                ctx.setStatus(resp.getStatus());
-                                ctx.resume();
-                            } else {
-                                ctx.resume(t);
-                            }
-                        });
+                result = rendering.resolve().toCompletableFuture();
             } catch (Throwable t) {
-                ctx.resume(t);
+                result = new CompletableFuture<>();
+                result.completeExceptionally(t);
+            }
+
+            if (result.isDone() && !result.isCompletedExceptionally()) {
+                setEntity(responseContext, rendering, result.join(), mediaType);
+                return;
             }
+
+            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
+            ctx.suspend();
+            result.whenComplete((r, t) -> {
+                if (t == null) {
+                    try {
+                        setEntity(ctx, rendering, r, mediaType);
+                    } catch (Throwable e) {
+                        ctx.resume(e);
+                        return;
+                    }
+                    ctx.setStatus(Response.Status.OK.getStatusCode());
+                    ctx.resume();
+                } else {
+                    ctx.resume(t);
+                }
+            });
+        }
+    }
+
+    private static void setEntity(ContainerResponseContext responseContext, TemplateInstance rendering, ResultNode result,
+            MediaType mediaType) {
+        Object entity;
+        if (mediaType == null || isUtf8(mediaType)) {
+            // The resolved tree is written directly to the response stream
+            entity = (StreamingOutput) out -> rendering.render(result, out);
+        } else {
+            StringBuilder builder = new StringBuilder();
+            result.process(builder::append);
+            entity = builder.toString();
         }
+        // make sure we avoid setting a null media type because that causes
+        // an NPE further down
+        if (mediaType != null) {
+            responseContext.setEntity(entity, null, mediaType);
+        } else {
+            responseContext.setEntity(entity);
+        }
+    }
+
+    private static boolean isUtf8(MediaType mediaType) {
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset);
     }
+
 }
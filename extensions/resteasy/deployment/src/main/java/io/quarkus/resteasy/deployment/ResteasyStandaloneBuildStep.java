@@ -3,18 +3,32 @@ package io.quarkus.resteasy.deployment;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -24,13 +38,19 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.resteasy.NonBlocking;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.runtime.standalone.CachedStaticResourceHandler;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.vertx.core.deployment.InternalWebVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
 import io.quarkus.vertx.http.deployment.RequireVirtualHttpBuildItem;
@@ -44,6 +64,12 @@ public class ResteasyStandaloneBuildStep {
 
     protected static final String META_INF_RESOURCES_SLASH = "META-INF/resources/";
     protected static final String META_INF_RESOURCES = "META-INF/resources";
+    protected static final DotName NON_BLOCKING = DotName.createSimple(NonBlocking.class.getName());
+
+    // Smaller resources do not benefit from compression
+    private static final int MIN_COMPRESSED_SIZE = 1024;
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = new HashSet<>(Arrays.asList("html", "htm", "css", "js",
+            "mjs", "json", "map", "svg", "txt", "xml", "csv", "ttf", "otf", "eot", "wasm"));
 
     public static final class ResteasyStandaloneBuildItem extends SimpleBuildItem {
 
@@ -70,14 +96,24 @@ public class ResteasyStandaloneBuildStep {
             Capabilities capabilities,
             ResteasyDeploymentBuildItem deployment,
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            CombinedIndexBuildItem combinedIndex,
             ResteasyInjectionReadyBuildItem resteasyInjectionReady,
             HttpBuildTimeConfig httpConfig,
+            LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
             BuildProducer<ResteasyStandaloneBuildItem> standalone) throws Exception {
         if (capabilities.isCapabilityPresent(Capabilities.SERVLET)) {
             return;
         }
 
-        Set<String> knownPaths = getClasspathResources(applicationArchivesBuildItem);
+        // The static resources are never cached in the dev mode so that the changes are visible immediately
+        Map<String, Callable<byte[]>> cachedResources = launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT ? null
+                : new LinkedHashMap<>();
+        Set<String> knownPaths = getClasspathResources(applicationArchivesBuildItem,
+                httpConfig.staticResources.maxCachedSize.asLongValue(), cachedResources);
+        if (cachedResources != null && !cachedResources.isEmpty()) {
+            processStaticResources(cachedResources, httpConfig.staticResources.compress, recorder, generatedResources);
+        }
         String deploymentRootPath = null;
         // The context path + the resources path
         String rootPath = httpConfig.rootPath;
@@ -96,10 +132,12 @@ public class ResteasyStandaloneBuildStep {
                 }
                 rootPath += deploymentRootPath;
             }
-            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            // Requests are only matched on the I/O thread if there is a resource method that can be invoked there
+            boolean hasNonBlockingMethods = !combinedIndex.getIndex().getAnnotations(NON_BLOCKING).isEmpty();
+            recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths, hasNonBlockingMethods);
 
         } else if (!knownPaths.isEmpty()) {
-            recorder.staticInit(null, rootPath, knownPaths);
+            recorder.staticInit(null, rootPath, knownPaths, false);
         }
 
         if (deployment != null || !knownPaths.isEmpty()) {
@@ -111,10 +149,14 @@ public class ResteasyStandaloneBuildStep {
      * Find all static file resources that are available from classpath.
      *
      * @param applicationArchivesBuildItem
+     * @param maxCachedSize
+     * @param cachedResources the path to the content of the resources that are not larger than the max cached size,
+     *        may be {@code null}
      * @return
      * @throws Exception
      */
-    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem) throws Exception {
+    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem, long maxCachedSize,
+            Map<String, Callable<byte[]>> cachedResources) throws Exception {
         Set<String> knownPaths = new HashSet<>();
         for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
             Path resource = i.getChildPath(META_INF_RESOURCES);
@@ -139,6 +181,7 @@ public class ResteasyStandaloneBuildStep {
                                 // Windows has a backslash
                                 file = file.replace('\\', '/');
                                 knownPaths.add(file);
+                                addCachedResource(cachedResources, maxCachedSize, file, path);
                             }
                         }
                     });
@@ -163,6 +206,15 @@ public class ResteasyStandaloneBuildStep {
                                 sub = "/" + sub;
                             }
                             knownPaths.add(sub);
+                            if (cachedResources != null && !entry.isDirectory() && entry.getSize() >= 0
+                                    && entry.getSize() <= maxCachedSize) {
+                                JarFile jarFile = jar.getJarFile();
+                                cachedResources.putIfAbsent(sub, () -> {
+                                    try (InputStream in = jarFile.getInputStream(entry)) {
+                                        return readAll(in);
+                                    }
+                                });
+                            }
                         }
                     }
                 }
@@ -190,6 +242,7 @@ public class ResteasyStandaloneBuildStep {
                                     // Windows has a backslash
                                     file = file.replace('\\', '/');
                                     knownPaths.add(file);
+                                    addCachedResource(cachedResources, maxCachedSize, file, path);
                                 }
                             }
                         });
@@ -200,6 +253,76 @@ public class ResteasyStandaloneBuildStep {
         return knownPaths;
     }
 
+    private static void addCachedResource(Map<String, Callable<byte[]>> cachedResources, long maxCachedSize, String file,
+            Path path) {
+        // The first resource found takes precedence, i.e. the application resources go first
+        if (cachedResources == null || cachedResources.containsKey(file)) {
+            return;
+        }
+        try {
+            if (Files.size(path) <= maxCachedSize) {
+                cachedResources.put(file, () -> Files.readAllBytes(path));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the size of the static resource " + path, e);
+        }
+    }
+
+    /**
+     * Computes the content hashes of the resources that can be kept in memory and generates the gzip variant of the
+     * compressible resources.
+     */
+    private void processStaticResources(Map<String, Callable<byte[]>> cachedResources, boolean compress,
+            ResteasyStandaloneRecorder recorder, BuildProducer<GeneratedResourceBuildItem> generatedResources)
+            throws Exception {
+        Map<String, String> hashes = new HashMap<>();
+        Set<String> compressed = new HashSet<>();
+        for (Map.Entry<String, Callable<byte[]>> e : cachedResources.entrySet()) {
+            String path = e.getKey();
+            byte[] data = e.getValue().call();
+            hashes.put(path, CachedStaticResourceHandler.hash(data));
+            if (compress && data.length >= MIN_COMPRESSED_SIZE && isCompressible(path)) {
+                byte[] gzipData = gzip(data);
+                // Keep the variant only if it saves at least 10%
+                if (gzipData.length < data.length * 0.9) {
+                    generatedResources.produce(new GeneratedResourceBuildItem(
+                            CachedStaticResourceHandler.COMPRESSED_RESOURCES + path + CachedStaticResourceHandler.GZIP_SUFFIX,
+                            gzipData));
+                    compressed.add(path);
+                }
+            }
+        }
+        recorder.staticResources(hashes, compressed);
+    }
+
+    private static boolean isCompressible(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/')
+                && COMPRESSIBLE_EXTENSIONS.contains(path.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int r;
+        while ((r = in.read(buffer)) > 0) {
+            out.write(buffer, 0, r);
+        }
+        return out.toByteArray();
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void boot(ShutdownContextBuildItem shutdown,
@@ -0,0 +1,98 @@
+package io.quarkus.resteasy.test;
+
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.resteasy.NonBlocking;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.Context;
+
+public class NonBlockingTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyResource.class, RequestBean.class));
+
+    @Test
+    public void testNonBlockingMethod() {
+        RestAssured.get("/non-blocking/io").then().statusCode(200).body(is("true:ok"));
+        RestAssured.get("/non-blocking/worker").then().statusCode(200).body(is("false:ok"));
+        // The body would have to be read on the I/O thread
+        RestAssured.given().body("foo").post("/non-blocking/io").then().statusCode(200).body(is("false:foo"));
+        RestAssured.get("/non-blocking/missing").then().statusCode(404);
+        // The decisions are cached
+        RestAssured.get("/non-blocking/io").then().statusCode(200).body(is("true:ok"));
+        RestAssured.get("/non-blocking/worker").then().statusCode(200).body(is("false:ok"));
+    }
+
+    @Test
+    public void testLargeResponse() {
+        // The response is larger than the write queue of the connection
+        RestAssured.get("/non-blocking/large").then().statusCode(200).body(is(MyResource.largeBody()));
+    }
+
+    @Path("/non-blocking")
+    public static class MyResource {
+
+        @Inject
+        RequestBean requestBean;
+
+        @NonBlocking
+        @GET
+        @Path("/io")
+        public CompletionStage<String> io() {
+            return CompletableFuture.completedFuture(Context.isOnEventLoopThread() + ":" + requestBean.ping());
+        }
+
+        @NonBlocking
+        @POST
+        @Path("/io")
+        public String ioPost(String body) {
+            return Context.isOnEventLoopThread() + ":" + body;
+        }
+
+        @NonBlocking
+        @GET
+        @Path("/large")
+        public String large() {
+            return largeBody();
+        }
+
+        @GET
+        @Path("/worker")
+        public String worker() {
+            return Context.isOnEventLoopThread() + ":" + requestBean.ping();
+        }
+
+        static String largeBody() {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < 100_000; i++) {
+                builder.append("0123456789");
+            }
+            return builder.toString();
+        }
+    }
+
+    @RequestScoped
+    public static class RequestBean {
+
+        String ping() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.resteasy.test.body;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.http.deployment.RequireBodyHandlerBuildItem;
+
+/**
+ * The body is buffered by the body handler and read from the Netty buffer.
+ */
+public class BufferedRequestBodyTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RequestBodyResource.class))
+            .addBuildChainCustomizer(b -> {
+                b.addBuildStep(new BuildStep() {
+                    @Override
+                    public void execute(BuildContext context) {
+                        context.produce(new RequireBodyHandlerBuildItem());
+                    }
+                }).produces(RequireBodyHandlerBuildItem.class).build();
+            });
+
+    @Test
+    public void testBulkRead() {
+        RequestBodyResource.assertEcho("/body/bulk", true);
+    }
+
+    @Test
+    public void testSingleByteRead() {
+        RequestBodyResource.assertEcho("/body/single", true);
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.quarkus.resteasy.test.body;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import io.restassured.RestAssured;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+
+@Path("/body")
+public class RequestBodyResource {
+
+    @Context
+    RoutingContext routingContext;
+
+    @POST
+    @Path("bulk")
+    public Response bulk(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        if (in.read(buffer) != -1) {
+            throw new IllegalStateException("Data read after the end of the stream");
+        }
+        return echo(out.toByteArray());
+    }
+
+    @POST
+    @Path("single")
+    public Response single(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        if (in.read() != -1) {
+            throw new IllegalStateException("Data read after the end of the stream");
+        }
+        return echo(out.toByteArray());
+    }
+
+    private Response echo(byte[] bytes) {
+        Buffer body = routingContext.getBody();
+        // Reading the stream must not consume the buffered body
+        boolean intact = body == null
+                || (body.getByteBuf().readableBytes() == bytes.length && Arrays.equals(bytes, body.getBytes()));
+        return Response.ok(bytes, MediaType.APPLICATION_OCTET_STREAM)
+                .header("buffered", body != null)
+                .header("intact", intact)
+                .build();
+    }
+
+    static void assertEcho(String path, boolean buffered) {
+        // Larger than a single chunk and contains every byte value
+        byte[] body = new byte[100000];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+        byte[] echoed = RestAssured.given().contentType(MediaType.APPLICATION_OCTET_STREAM).body(body).post(path)
+                .then().statusCode(200).header("buffered", "" + buffered).header("intact", "true")
+                .extract().asByteArray();
+        assertArrayEquals(body, echoed);
+    }
+
+}
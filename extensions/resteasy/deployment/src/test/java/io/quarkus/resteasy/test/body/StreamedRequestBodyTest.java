@@ -0,0 +1,30 @@
+package io.quarkus.resteasy.test.body;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * The body is not buffered and read from the connection with {@link io.quarkus.vertx.http.runtime.VertxInputStream}.
+ */
+public class StreamedRequestBodyTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RequestBodyResource.class));
+
+    @Test
+    public void testBulkRead() {
+        RequestBodyResource.assertEcho("/body/bulk", false);
+    }
+
+    @Test
+    public void testSingleByteRead() {
+        RequestBodyResource.assertEcho("/body/single", false);
+    }
+
+}
@@ -0,0 +1,126 @@
+package io.quarkus.resteasy.test.files;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+
+import java.io.File;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Test that the static files are served with an entity tag and that the compressed variant is sent if accepted.
+ */
+public class StaticFileCompressionTest {
+
+    private static final String SCRIPT;
+
+    static {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("console.log('Hello ").append(i).append("');\n");
+        }
+        SCRIPT = builder.toString();
+    }
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/app.js")
+                    .addAsResource(new File("src/test/resources/lorem.txt"), "META-INF/resources/lorem.txt"));
+
+    @Test
+    public void testCompressed() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "accept-encoding")
+                .header("ETag", endsWith("-gzip\""))
+                .body(containsString("console.log('Hello 99');"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void testIdentity() {
+        String etag = RestAssured.given().header("Accept-Encoding", "identity")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Type", startsWith("application/javascript"))
+                .header("ETag", not(endsWith("-gzip\"")))
+                .body(containsString("console.log('Hello 99');"))
+                .extract().header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-None-Match", etag)
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+        // The entity tag of the identity variant does not match the compressed one
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag)
+                .get("/app.js")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testSmallFile() {
+        // Too small to be compressed
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/lorem.txt")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("ETag", startsWith("\""))
+                .body(containsString("Lorem"));
+    }
+
+    @Test
+    public void testLastModified() {
+        String lastModified = RestAssured.given().header("Accept-Encoding", "identity")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Last-Modified", notNullValue())
+                .header("Accept-Ranges", "bytes")
+                .extract().header("Last-Modified");
+
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-Modified-Since", lastModified)
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("Accept-Encoding", "identity").header("If-Modified-Since", lastModified)
+                .header("If-None-Match", "\"other\"")
+                .get("/app.js")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testRange() {
+        RestAssured.given().header("Accept-Encoding", "identity").header("Range", "bytes=0-10")
+                .get("/app.js")
+                .then()
+                .statusCode(206)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(SCRIPT.substring(0, 11)));
+    }
+}
@@ -0,0 +1,42 @@
+package io.quarkus.resteasy;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method that never blocks, e.g. because it returns a {@link java.util.concurrent.CompletionStage}.
+ * If declared on a resource class then all resource methods of the class are considered non-blocking.
+ * <p>
+ * By default, a JAX-RS request is dispatched to a worker thread. A request that is matched to a non-blocking resource
+ * method is handled directly on the I/O thread instead. The CDI request context is active during the invocation. Blocking
+ * operations, such as reading a request body that was not read yet or using a blocking API which checks
+ * {@link io.quarkus.runtime.BlockingOperationControl}, fail on the I/O thread.
+ * <p>
+ * A request with a body is still dispatched to a worker thread unless the body was already read. The response body is
+ * written without waiting for the connection to become writable, so a large response is held in memory until it is
+ * written.
+ *
+ * <pre>
+ * &#64;Path("/hello")
+ * public class HelloResource {
+ *
+ *     &#64;NonBlocking
+ *     &#64;GET
+ *     public CompletionStage&lt;String&gt; hello() {
+ *         return service.helloAsync();
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * This annotation is only taken into account if RESTEasy runs on top of Vert.x, i.e. it is ignored in the Servlet
+ * deployment.
+ */
+@Target({ METHOD, TYPE })
+@Retention(RUNTIME)
+public @interface NonBlocking {
+
+}
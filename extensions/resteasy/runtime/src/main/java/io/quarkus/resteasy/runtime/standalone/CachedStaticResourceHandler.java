@@ -0,0 +1,337 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources that were processed during the build, i.e. the resources that are small enough to be kept
+ * in memory.
+ * <p>
+ * A resource is loaded from the classpath on the first request and then sent from memory. The gzip variant generated
+ * during the build is sent if the client accepts it. The range requests and all other requests are delegated to the
+ * fallback handler.
+ */
+public class CachedStaticResourceHandler implements Handler<RoutingContext> {
+
+    private static final Logger log = Logger.getLogger(CachedStaticResourceHandler.class);
+
+    /**
+     * The gzip variant of {@code META-INF/resources/foo.js} is stored as
+     * {@code META-INF/quarkus-compressed-resources/foo.js.gz}.
+     */
+    public static final String COMPRESSED_RESOURCES = "META-INF/quarkus-compressed-resources";
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private static final String INDEX_PAGE = "index.html";
+    private static final String CACHE_CONTROL = "public, max-age=86400";
+    private static final String GZIP = "gzip";
+    private static final String ACCEPT_RANGES = "bytes";
+    private static final Resource NOT_FOUND = new Resource(null, null, null, null, 0);
+
+    /**
+     * The content types of the common static resources, other types are guessed by the JDK.
+     */
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+    static {
+        CONTENT_TYPES.put("html", "text/html");
+        CONTENT_TYPES.put("htm", "text/html");
+        CONTENT_TYPES.put("css", "text/css");
+        CONTENT_TYPES.put("js", "application/javascript");
+        CONTENT_TYPES.put("mjs", "application/javascript");
+        CONTENT_TYPES.put("json", "application/json");
+        CONTENT_TYPES.put("map", "application/json");
+        CONTENT_TYPES.put("xml", "application/xml");
+        CONTENT_TYPES.put("txt", "text/plain");
+        CONTENT_TYPES.put("csv", "text/csv");
+        CONTENT_TYPES.put("svg", "image/svg+xml");
+        CONTENT_TYPES.put("png", "image/png");
+        CONTENT_TYPES.put("jpg", "image/jpeg");
+        CONTENT_TYPES.put("jpeg", "image/jpeg");
+        CONTENT_TYPES.put("gif", "image/gif");
+        CONTENT_TYPES.put("ico", "image/x-icon");
+        CONTENT_TYPES.put("webp", "image/webp");
+        CONTENT_TYPES.put("woff", "font/woff");
+        CONTENT_TYPES.put("woff2", "font/woff2");
+        CONTENT_TYPES.put("ttf", "font/ttf");
+        CONTENT_TYPES.put("otf", "font/otf");
+        CONTENT_TYPES.put("eot", "application/vnd.ms-fontobject");
+        CONTENT_TYPES.put("wasm", "application/wasm");
+        CONTENT_TYPES.put("pdf", "application/pdf");
+    }
+
+    private final Map<String, String> hashes;
+    private final Set<String> compressed;
+    private final ClassLoader classLoader;
+    private final Handler<RoutingContext> fallback;
+    private final ConcurrentMap<String, Resource> resources = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param hashes the resource path to the hash of the content computed during the build
+     * @param compressed the paths of the resources that have a gzip variant
+     * @param classLoader
+     * @param fallback the handler used for all other resources
+     */
+    public CachedStaticResourceHandler(Map<String, String> hashes, Set<String> compressed, ClassLoader classLoader,
+            Handler<RoutingContext> fallback) {
+        this.hashes = hashes;
+        this.compressed = compressed;
+        this.classLoader = classLoader;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpMethod method = ctx.request().method();
+        String path = ctx.normalisedPath();
+        if (path.endsWith("/")) {
+            path += INDEX_PAGE;
+        }
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD) || !hashes.containsKey(path)
+                || ctx.request().headers().contains(HttpHeaders.RANGE)) {
+            fallback.handle(ctx);
+            return;
+        }
+        Resource resource = resources.get(path);
+        if (resource != null) {
+            send(ctx, resource);
+            return;
+        }
+        String resourcePath = path;
+        ctx.vertx().<Resource> executeBlocking(promise -> {
+            try {
+                promise.complete(load(resourcePath));
+            } catch (IOException e) {
+                promise.fail(e);
+            }
+        }, false, result -> {
+            if (result.succeeded()) {
+                Resource loaded = result.result();
+                Resource previous = resources.putIfAbsent(resourcePath, loaded);
+                send(ctx, previous != null ? previous : loaded);
+            } else {
+                log.debugf(result.cause(), "Unable to load the static resource %s", resourcePath);
+                fallback.handle(ctx);
+            }
+        });
+    }
+
+    private void send(RoutingContext ctx, Resource resource) {
+        if (resource == NOT_FOUND) {
+            fallback.handle(ctx);
+            return;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+
+        Buffer content = resource.content;
+        String etag = resource.etag;
+        if (resource.gzipContent != null) {
+            headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                content = resource.gzipContent;
+                etag = resource.gzipEtag;
+                headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            }
+        }
+        headers.set(HttpHeaders.ETAG, etag);
+        headers.set(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        headers.set(HttpHeaders.LAST_MODIFIED, resource.lastModified);
+        // The range requests are served by the fallback handler
+        headers.set(HttpHeaders.ACCEPT_RANGES, ACCEPT_RANGES);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null ? matches(ifNoneMatch, etag)
+                : isNotModifiedSince(request.getHeader(HttpHeaders.IF_MODIFIED_SINCE), resource.lastModifiedTime)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+        if (resource.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        }
+        if (request.method() == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, String.valueOf(content.length()));
+            response.end();
+        } else {
+            response.end(content);
+        }
+    }
+
+    private Resource load(String path) throws IOException {
+        URL url = classLoader.getResource(ResteasyStandaloneRecorder.META_INF_RESOURCES + path);
+        if (url == null) {
+            // The resource was removed from the classpath
+            return NOT_FOUND;
+        }
+        URLConnection connection = url.openConnection();
+        long lastModified = connection.getLastModified();
+        byte[] data;
+        try (InputStream in = connection.getInputStream()) {
+            data = read(in);
+        }
+        String hash = hash(data);
+        byte[] gzipData = null;
+        if (!hash.equals(hashes.get(path))) {
+            // Another resource with the same path takes precedence at runtime, the gzip variant cannot be used
+            log.debugf("The content of the static resource %s does not match the content processed during the build", path);
+        } else if (compressed.contains(path)) {
+            try (InputStream in = classLoader.getResourceAsStream(COMPRESSED_RESOURCES + path + GZIP_SUFFIX)) {
+                gzipData = in != null ? read(in) : null;
+            }
+        }
+        String contentType = getContentType(path);
+        if (contentType != null && contentType.startsWith("text")) {
+            contentType += ";charset=UTF-8";
+        }
+        // Heap buffers, nothing has to be released when the cache is discarded
+        return new Resource(Buffer.buffer(data), "\"" + hash + "\"", gzipData != null ? Buffer.buffer(gzipData) : null,
+                contentType, lastModified > 0 ? lastModified : System.currentTimeMillis());
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int r;
+        while ((r = in.read(buffer)) > 0) {
+            out.write(buffer, 0, r);
+        }
+        return out.toByteArray();
+    }
+
+    static String getContentType(String path) {
+        int dot = path.lastIndexOf('.');
+        String contentType = dot < 0 ? null : CONTENT_TYPES.get(path.substring(dot + 1).toLowerCase(Locale.ROOT));
+        return contentType != null ? contentType : URLConnection.guessContentTypeFromName(path);
+    }
+
+    /**
+     * The hash is used as the strong entity tag of a resource.
+     *
+     * @param data
+     * @return the URL-safe Base64 encoding of the truncated SHA-256 hash of the data
+     */
+    public static String hash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 18));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String value : acceptEncoding.split(",")) {
+            int semicolon = value.indexOf(';');
+            String coding = (semicolon < 0 ? value : value.substring(0, semicolon)).trim();
+            if (coding.equalsIgnoreCase(GZIP) || coding.equals("*")) {
+                return semicolon < 0 || !isZeroQuality(value.substring(semicolon + 1).trim());
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String param) {
+        if (!param.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(param.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The weak comparison is used for {@code If-None-Match}.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            value = value.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code If-Modified-Since} is only used if there is no {@code If-None-Match}.
+     */
+    static boolean isNotModifiedSince(String ifModifiedSince, long lastModifiedTime) {
+        if (ifModifiedSince == null) {
+            return false;
+        }
+        try {
+            long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                    .toEpochMilli();
+            return lastModifiedTime <= since;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    static final class Resource {
+
+        final Buffer content;
+        final String etag;
+        final Buffer gzipContent;
+        final String gzipEtag;
+        final String contentType;
+        // The HTTP dates have a precision of one second
+        final long lastModifiedTime;
+        final String lastModified;
+
+        Resource(Buffer content, String etag, Buffer gzipContent, String contentType, long lastModifiedTime) {
+            this.content = content;
+            this.etag = etag;
+            this.gzipContent = gzipContent;
+            // Each representation must have a different strong entity tag
+            this.gzipEtag = etag != null ? etag.substring(0, etag.length() - 1) + "-gzip\"" : null;
+            this.contentType = contentType;
+            this.lastModifiedTime = lastModifiedTime / 1000 * 1000;
+            this.lastModified = DateTimeFormatter.RFC_1123_DATE_TIME
+                    .format(Instant.ofEpochMilli(this.lastModifiedTime).atZone(ZoneOffset.UTC));
+        }
+
+    }
+
+}
@@ -0,0 +1,292 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.core.AbstractExecutionContext;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.plugins.server.BaseHttpRequest;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.spi.NotImplementedYetException;
+import org.jboss.resteasy.spi.ResourceInvoker;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+import org.jboss.resteasy.spi.ResteasyAsynchronousResponse;
+
+import io.quarkus.resteasy.NonBlocking;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Finds out whether a request can be handled on the I/O thread, i.e. whether it is matched to a resource method annotated
+ * with {@link NonBlocking}.
+ * <p>
+ * The result is cached per HTTP method, path and content negotiation headers so that a request is only matched against the
+ * registry the first time. The paths may contain path parameters, so the cache is bounded and the least recently used
+ * result is evicted when it is full.
+ */
+class NonBlockingResolver {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
+
+    private static final int MAX_CACHED_REQUESTS = 1000;
+
+    private final SynchronousDispatcher dispatcher;
+    private final String rootPath;
+    private final ConcurrentMap<ResourceMethodInvoker, Boolean> nonBlockingInvokers;
+    // Access ordered, guarded by itself
+    private final LinkedHashMap<RequestKey, Boolean> nonBlockingRequests;
+
+    NonBlockingResolver(SynchronousDispatcher dispatcher, String rootPath) {
+        this.dispatcher = dispatcher;
+        this.rootPath = rootPath;
+        this.nonBlockingInvokers = new ConcurrentHashMap<>();
+        this.nonBlockingRequests = new LinkedHashMap<RequestKey, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RequestKey, Boolean> eldest) {
+                return size() > MAX_CACHED_REQUESTS;
+            }
+        };
+    }
+
+    boolean isNonBlocking(RoutingContext routingContext) {
+        HttpServerRequest request = routingContext.request();
+        if (routingContext.getBody() == null && hasBody(request)) {
+            // Reading the body would block the I/O thread
+            return false;
+        }
+        RequestKey key = new RequestKey(request);
+        Boolean nonBlocking;
+        synchronized (nonBlockingRequests) {
+            nonBlocking = nonBlockingRequests.get(key);
+        }
+        if (nonBlocking == null) {
+            // The request is matched outside the lock, two threads may match the same request
+            nonBlocking = match(request);
+            synchronized (nonBlockingRequests) {
+                nonBlockingRequests.put(key, nonBlocking);
+            }
+        }
+        return nonBlocking;
+    }
+
+    private boolean match(HttpServerRequest request) {
+        ResourceInvoker invoker;
+        try {
+            invoker = dispatcher.getRegistry().getResourceInvoker(new MatchingRequest(request, rootPath));
+        } catch (RuntimeException e) {
+            // Not found, method not allowed, etc. - the error response is produced on a worker thread
+            log.tracef(e, "Unable to match request %s", request.uri());
+            return false;
+        }
+        if (invoker instanceof ResourceMethodInvoker) {
+            // Sub-resource locators are always considered blocking
+            return nonBlockingInvokers.computeIfAbsent((ResourceMethodInvoker) invoker, NonBlockingResolver::isNonBlocking);
+        }
+        return false;
+    }
+
+    private static boolean isNonBlocking(ResourceMethodInvoker invoker) {
+        return invoker.getMethod().isAnnotationPresent(NonBlocking.class)
+                || invoker.getResourceClass().isAnnotationPresent(NonBlocking.class);
+    }
+
+    private static boolean hasBody(HttpServerRequest request) {
+        String contentLength = request.getHeader(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            return !"0".equals(contentLength);
+        }
+        return request.getHeader(io.vertx.core.http.HttpHeaders.TRANSFER_ENCODING) != null;
+    }
+
+    /**
+     * The request attributes that are used to match a resource method.
+     */
+    private static final class RequestKey {
+
+        private final String method;
+        private final String path;
+        private final String contentType;
+        private final String accept;
+        private final int hashCode;
+
+        RequestKey(HttpServerRequest request) {
+            this.method = request.rawMethod();
+            this.path = request.path();
+            this.contentType = request.getHeader(io.vertx.core.http.HttpHeaders.CONTENT_TYPE);
+            this.accept = request.getHeader(io.vertx.core.http.HttpHeaders.ACCEPT);
+            this.hashCode = Objects.hash(method, path, contentType, accept);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey other = (RequestKey) obj;
+            return method.equals(other.method) && Objects.equals(path, other.path)
+                    && Objects.equals(contentType, other.contentType) && Objects.equals(accept, other.accept);
+        }
+
+    }
+
+    /**
+     * Only used to match a resource method. The attributes set during matching are discarded.
+     */
+    private static final class MatchingRequest extends BaseHttpRequest {
+
+        private final ResteasyHttpHeaders httpHeaders;
+        private final Map<String, Object> attributes;
+        private final LazyHostSupplier remoteHost;
+        private final MatchingExecutionContext executionContext;
+        private String httpMethod;
+        private InputStream inputStream;
+
+        MatchingRequest(HttpServerRequest request, String rootPath) {
+            super(VertxUtil.extractUriInfo(request, rootPath));
+            this.httpHeaders = VertxUtil.extractHttpHeaders(request);
+            this.httpMethod = request.rawMethod();
+            this.attributes = new HashMap<>();
+            this.remoteHost = new LazyHostSupplier(request);
+            this.executionContext = new MatchingExecutionContext(this);
+        }
+
+        @Override
+        public HttpHeaders getHttpHeaders() {
+            return httpHeaders;
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getMutableHeaders() {
+            return httpHeaders.getMutableHeaders();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public void setInputStream(InputStream stream) {
+            this.inputStream = stream;
+        }
+
+        @Override
+        public String getHttpMethod() {
+            return httpMethod;
+        }
+
+        @Override
+        public void setHttpMethod(String method) {
+            this.httpMethod = method;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) {
+            return attributes.get(attribute);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(attributes.keySet());
+        }
+
+        @Override
+        public ResteasyAsynchronousContext getAsyncContext() {
+            return executionContext;
+        }
+
+        @Override
+        public String getRemoteAddress() {
+            return remoteHost.getRemoteHost();
+        }
+
+        @Override
+        public String getRemoteHost() {
+            return remoteHost.getRemoteHost();
+        }
+
+        @Override
+        public void forward(String path) {
+            throw new NotImplementedYetException();
+        }
+
+        @Override
+        public boolean wasForwarded() {
+            return false;
+        }
+
+    }
+
+    /**
+     * A request that is only matched is never suspended.
+     */
+    private static final class MatchingExecutionContext extends AbstractExecutionContext {
+
+        MatchingExecutionContext(MatchingRequest request) {
+            super(null, request, null);
+        }
+
+        @Override
+        public boolean isSuspended() {
+            return false;
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse getAsyncResponse() {
+            return null;
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend() throws IllegalStateException {
+            return suspend(-1);
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend(long millis) throws IllegalStateException {
+            return suspend(millis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public ResteasyAsynchronousResponse suspend(long time, TimeUnit unit) throws IllegalStateException {
+            throw new IllegalStateException("A request cannot be suspended while it is matched");
+        }
+
+        @Override
+        public void complete() {
+            // Nothing to complete
+        }
+
+    }
+
+}
@@ -2,7 +2,9 @@ package io.quarkus.resteasy.runtime.standalone;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
@@ -79,14 +81,28 @@ public class ResteasyStandaloneRecorder {
     private static ResteasyDeployment deployment;
     private static Set<String> knownPaths;
     private static String contextPath;
+    private static boolean hasNonBlockingMethods;
+    private static Map<String, String> staticResourceHashes = Collections.emptyMap();
+    private static Set<String> compressedStaticResources = Collections.emptySet();
 
-    public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
+    public void staticInit(ResteasyDeployment dep, String path, Set<String> known, boolean nonBlockingMethods) {
         if (dep != null) {
             deployment = dep;
             deployment.start();
         }
         knownPaths = known;
         contextPath = path;
+        hasNonBlockingMethods = nonBlockingMethods;
+    }
+
+    /**
+     *
+     * @param hashes the path to the content hash of the static resources that can be kept in memory
+     * @param compressed the paths of the static resources with a gzip variant
+     */
+    public void staticResources(Map<String, String> hashes, Set<String> compressed) {
+        staticResourceHashes = hashes;
+        compressedStaticResources = compressed;
     }
 
     public Consumer<Route> start(RuntimeValue<Vertx> vertx,
@@ -139,9 +155,15 @@ public class ResteasyStandaloneRecorder {
                             .setDefaultContentEncoding("UTF-8");
                 }
             });
+            Handler<RoutingContext> resourceHandler = staticHandler;
+            if (!staticResourceHashes.isEmpty()) {
+                resourceHandler = new CachedStaticResourceHandler(staticResourceHashes, compressedStaticResources,
+                        Thread.currentThread().getContextClassLoader(), staticHandler);
+            }
+            Handler<RoutingContext> knownPathsHandler = resourceHandler;
             handlers.add(ctx -> {
                 if (knownPaths.contains(ctx.normalisedPath())) {
-                    staticHandler.handle(ctx);
+                    knownPathsHandler.handle(ctx);
                 } else {
                     ctx.next();
                 }
@@ -165,7 +187,8 @@ public class ResteasyStandaloneRecorder {
     public Handler<RoutingContext> vertxRequestHandler(RuntimeValue<Vertx> vertx,
             BeanContainer beanContainer, Executor executor) {
         if (deployment != null) {
-            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR, executor);
+            return new VertxRequestHandler(vertx.getValue(), beanContainer, deployment, contextPath, ALLOCATOR, executor,
+                    hasNonBlockingMethods);
         }
         return null;
     }
@@ -0,0 +1,42 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * The output of a request dispatched on the I/O thread. Unlike {@link VertxBlockingOutput} it never waits for the write
+ * queue to drain because the I/O thread must not block. Instead, the data that cannot be written immediately are queued by
+ * the connection, i.e. a large response body of a {@link io.quarkus.resteasy.NonBlocking} resource method is held in
+ * memory until it is written.
+ */
+final class VertxNonBlockingOutput implements VertxOutput {
+
+    private final HttpServerRequest request;
+
+    VertxNonBlockingOutput(HttpServerRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public void write(ByteBuf data, boolean last) throws IOException {
+        if (last && data == null) {
+            request.response().end();
+            return;
+        }
+        try {
+            if (last) {
+                request.response().end(new VertxBufferImpl(data));
+            } else {
+                request.response().write(new VertxBufferImpl(data));
+            }
+        } catch (Exception e) {
+            if (data != null && data.refCnt() > 0) {
+                data.release();
+            }
+            throw new IOException("Failed to write", e);
+        }
+    }
+
+}
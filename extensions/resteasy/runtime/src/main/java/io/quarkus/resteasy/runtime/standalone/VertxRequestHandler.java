@@ -1,6 +1,5 @@
 package io.quarkus.resteasy.runtime.standalone;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.Executor;
@@ -17,6 +16,7 @@ import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
@@ -44,12 +44,22 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final CurrentIdentityAssociation association;
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
+    // null if there are no non-blocking resource methods
+    protected final NonBlockingResolver nonBlockingResolver;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator, Executor executor) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, executor, false);
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, Executor executor, boolean hasNonBlockingMethods) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -60,6 +70,9 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
+        this.nonBlockingResolver = hasNonBlockingMethods
+                ? new NonBlockingResolver(dispatcher.getDispatcher(), rootPath)
+                : null;
     }
 
     @Override
@@ -69,7 +82,8 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         InputStream is;
         try {
             if (request.getBody() != null) {
-                is = new ByteArrayInputStream(request.getBody().getBytes());
+                // Read the buffered body directly from the Netty buffer instead of copying it
+                is = new ByteBufInputStream(request.getBody().getByteBuf());
             } else {
                 is = new VertxInputStream(request.request());
             }
@@ -78,6 +92,16 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             return;
         }
 
+        if (nonBlockingResolver != null && nonBlockingResolver.isNonBlocking(request)) {
+            // Resource methods annotated with @NonBlocking are invoked directly on the I/O thread
+            try {
+                dispatch(request, is, new VertxNonBlockingOutput(request.request()));
+            } catch (Throwable e) {
+                request.fail(e);
+            }
+            return;
+        }
+
         executor.execute(new Runnable() {
             @Override
             public void run() {
@@ -315,11 +315,15 @@ public class SchedulerProcessor {
                 if (Character.isDigit(every.charAt(0))) {
                     every = "PT" + every;
                 }
+                Duration duration;
                 try {
-                    Duration.parse(every);
+                    duration = Duration.parse(every);
                 } catch (Exception e) {
                     return new IllegalStateException("Invalid every() expression on: " + schedule, e);
                 }
+                if (duration.toMillis() < 1) {
+                    return new IllegalStateException("The every() interval must be at least 1 ms on: " + schedule);
+                }
             } else {
                 return new IllegalStateException("@Scheduled must declare either cron() or every(): " + schedule);
             }
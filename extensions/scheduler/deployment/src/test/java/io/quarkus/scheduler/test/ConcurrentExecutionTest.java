@@ -0,0 +1,83 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.max-threads=4"), "application.properties"));
+
+    @Test
+    public void testConcurrentExecution() throws InterruptedException {
+        assertTrue(Jobs.SKIP_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.QUEUE_LATCH.await(5, TimeUnit.SECONDS));
+        // Executions of the same method never overlap
+        assertEquals(1, Jobs.SKIP_MAX_RUNNING.get());
+        assertEquals(1, Jobs.QUEUE_MAX_RUNNING.get());
+        assertTrue(Jobs.SKIPPED.get() > 0);
+        assertTrue(Jobs.THREAD_NAME_OK.get());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch SKIP_LATCH = new CountDownLatch(3);
+        static final CountDownLatch QUEUE_LATCH = new CountDownLatch(3);
+        static final AtomicInteger SKIP_RUNNING = new AtomicInteger();
+        static final AtomicInteger SKIP_MAX_RUNNING = new AtomicInteger();
+        static final AtomicInteger QUEUE_RUNNING = new AtomicInteger();
+        static final AtomicInteger QUEUE_MAX_RUNNING = new AtomicInteger();
+        static final AtomicLong SKIPPED = new AtomicLong();
+        static final AtomicBoolean THREAD_NAME_OK = new AtomicBoolean(true);
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void skip(ScheduledExecution execution) {
+            run(SKIP_RUNNING, SKIP_MAX_RUNNING);
+            SKIPPED.set(execution.getSkippedExecutions());
+            SKIP_LATCH.countDown();
+        }
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.QUEUE)
+        void queue() {
+            run(QUEUE_RUNNING, QUEUE_MAX_RUNNING);
+            QUEUE_LATCH.countDown();
+        }
+
+        private static void run(AtomicInteger running, AtomicInteger maxRunning) {
+            if (!Thread.currentThread().getName().startsWith("scheduler-thread")) {
+                THREAD_NAME_OK.set(false);
+            }
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(350);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@ public class SimpleJobs {
         LATCHES.put("everyConfig", new CountDownLatch(2));
         LATCHES.put("cron", new CountDownLatch(2));
         LATCHES.put("cronConfig", new CountDownLatch(2));
+        LATCHES.put("everyMillis", new CountDownLatch(10));
     }
 
     @Scheduled(cron = "0/1 * * * * ?")
@@ -28,6 +29,11 @@ public class SimpleJobs {
         LATCHES.get("every").countDown();
     }
 
+    @Scheduled(every = "0.1s")
+    void checkEveryHundredMillis() {
+        LATCHES.get("everyMillis").countDown();
+    }
+
     @Scheduled(cron = "{simpleJobs.cron}")
     void checkEverySecondCronConfig() {
         LATCHES.get("cronConfig").countDown();
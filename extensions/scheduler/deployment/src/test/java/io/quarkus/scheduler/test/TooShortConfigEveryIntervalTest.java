@@ -0,0 +1,33 @@
+package io.quarkus.scheduler.test;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TooShortConfigEveryIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(IllegalStateException.class)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TooShortConfigEveryIntervalTest.InvalidBean.class)
+                    .addAsResource(new StringAsset("my.every=0S"), "application.properties"));
+
+    @Test
+    public void test() {
+    }
+
+    static class InvalidBean {
+
+        @Scheduled(every = "{my.every}")
+        void wrong() {
+        }
+
+    }
+
+}
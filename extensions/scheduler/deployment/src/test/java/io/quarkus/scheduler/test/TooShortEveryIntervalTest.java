@@ -0,0 +1,34 @@
+package io.quarkus.scheduler.test;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TooShortEveryIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(DeploymentException.class)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(TooShortEveryIntervalTest.InvalidBean.class));
+
+    @Test
+    public void test() {
+    }
+
+    static class InvalidBean {
+
+        // Parsed as PT0.0001S, i.e. less than 1 ms
+        @Scheduled(every = "0.0001S")
+        void wrong() {
+        }
+
+    }
+
+}
@@ -67,7 +67,7 @@ public @interface Scheduled {
     String every() default "";
 
     /**
-     * Delays the time the trigger should start at. The value is rounded to full second.
+     * Delays the time the trigger should start at.
      * <p>
      * By default, the trigger starts when registered.
      *
@@ -81,6 +81,15 @@ public @interface Scheduled {
      */
     TimeUnit delayUnit() default TimeUnit.MINUTES;
 
+    /**
+     * Specifies what happens if the trigger fires while the previous execution of the same scheduled method is still in
+     * progress.
+     *
+     * @return the concurrent execution policy
+     * @see ScheduledExecution#getSkippedExecutions()
+     */
+    ConcurrentExecution concurrentExecution() default ConcurrentExecution.PROCEED;
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface Schedules {
@@ -89,4 +98,27 @@ public @interface Scheduled {
 
     }
 
+    /**
+     * Represents a strategy used when the trigger fires while the previous execution is still in progress.
+     */
+    enum ConcurrentExecution {
+
+        /**
+         * The method is executed concurrently, i.e. the executions may overlap.
+         */
+        PROCEED,
+
+        /**
+         * The execution is skipped if the previous one is still in progress.
+         */
+        SKIP,
+
+        /**
+         * The execution starts as soon as the previous one completes. At most one execution is queued, any further
+         * execution is skipped.
+         */
+        QUEUE
+
+    }
+
 }
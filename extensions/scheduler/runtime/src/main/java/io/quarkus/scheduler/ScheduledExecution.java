@@ -1,5 +1,6 @@
 package io.quarkus.scheduler;
 
+import java.time.Duration;
 import java.time.Instant;
 
 /**
@@ -27,4 +28,27 @@ public interface ScheduledExecution {
      */
     Instant getScheduledFireTime();
 
+    /**
+     *
+     * @return the time elapsed between the scheduled fire time and the actual start of the execution
+     */
+    Duration getLateness();
+
+    /**
+     * An execution is skipped if the trigger fires while the previous execution is still in progress and the policy does
+     * not allow another execution to proceed or to be queued.
+     *
+     * @return the number of executions of the trigger skipped so far
+     * @see Scheduled#concurrentExecution()
+     */
+    long getSkippedExecutions();
+
+    /**
+     * An execution is missed if the scheduler was not able to fire the trigger at the scheduled time, e.g. because the
+     * previous fire was delayed, or if the execution was rejected by the executor.
+     *
+     * @return the number of executions of the trigger missed so far
+     */
+    long getMissedExecutions();
+
 }
@@ -1,5 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.OptionalInt;
+
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -18,4 +20,16 @@ public class SchedulerConfig {
     @ConfigItem(defaultValue = "quartz")
     public CronType cronType;
 
+    /**
+     * The maximum number of threads used to execute scheduled methods.
+     * <p>
+     * If set, scheduled methods are executed on a dedicated thread pool. Otherwise, the executor shared with other parts of
+     * the application is used.
+     * <p>
+     * This property is ignored if the Quartz extension is present, the size of the Quartz thread pool is configured with
+     * {@code quarkus.quartz.thread-count} instead.
+     */
+    @ConfigItem
+    public OptionalInt maxThreads;
+
 }
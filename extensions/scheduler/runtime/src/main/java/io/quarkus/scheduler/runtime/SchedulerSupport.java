@@ -2,6 +2,7 @@ package io.quarkus.scheduler.runtime;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.concurrent.ExecutorService;
 
 import javax.inject.Singleton;
@@ -17,10 +18,12 @@ public class SchedulerSupport {
 
     private ExecutorService executor;
     private CronType cronType;
+    private OptionalInt maxThreads;
     private List<ScheduledMethodMetadata> scheduledMethods;
 
     void initialize(SchedulerConfig config, List<ScheduledMethodMetadata> scheduledMethods, ExecutorService executor) {
         this.cronType = config.cronType;
+        this.maxThreads = config.maxThreads;
         this.scheduledMethods = scheduledMethods;
         this.executor = executor;
     }
@@ -33,6 +36,14 @@ public class SchedulerSupport {
         return cronType;
     }
 
+    /**
+     *
+     * @return the size of the dedicated thread pool, or an empty value if the shared executor should be used
+     */
+    public OptionalInt getMaxThreads() {
+        return maxThreads;
+    }
+
     public List<ScheduledMethodMetadata> getScheduledMethods() {
         return scheduledMethods;
     }
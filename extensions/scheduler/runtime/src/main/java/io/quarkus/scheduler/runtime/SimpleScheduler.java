@@ -2,17 +2,15 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.PreDestroy;
 import javax.enterprise.event.Observes;
@@ -22,7 +20,10 @@ import javax.inject.Singleton;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
 import org.jboss.logging.Logger;
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.jboss.threads.JBossExecutors;
 import org.jboss.threads.JBossScheduledThreadPoolExecutor;
+import org.jboss.threads.JBossThreadFactory;
 
 import com.cronutils.model.Cron;
 import com.cronutils.model.definition.CronDefinition;
@@ -32,6 +33,7 @@ import com.cronutils.parser.CronParser;
 
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.Trigger;
@@ -42,10 +44,9 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
+    private final boolean dedicatedExecutor;
     private volatile boolean running;
     private final List<ScheduledTask> scheduledTasks;
     private final AtomicInteger triggerNameSequence;
@@ -55,12 +56,20 @@ public class SimpleScheduler implements Scheduler {
         this.running = true;
         this.scheduledTasks = new ArrayList<>();
         this.triggerNameSequence = new AtomicInteger();
-        this.executor = support.getExecutor();
         this.config = config;
 
         if (support.getScheduledMethods().isEmpty()) {
             this.scheduledExecutor = null;
+            this.executor = support.getExecutor();
+            this.dedicatedExecutor = false;
         } else {
+            if (support.getMaxThreads().isPresent()) {
+                this.executor = createExecutor(support.getMaxThreads().getAsInt());
+                this.dedicatedExecutor = true;
+            } else {
+                this.executor = support.getExecutor();
+                this.dedicatedExecutor = false;
+            }
             this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
                 @Override
                 public void run() {
@@ -75,7 +84,7 @@ public class SimpleScheduler implements Scheduler {
                 ScheduledInvoker invoker = support.createInvoker(method.getInvokerClassName());
                 for (Scheduled scheduled : method.getSchedules()) {
                     SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), parser, scheduled);
-                    scheduledTasks.add(new ScheduledTask(trigger, invoker));
+                    scheduledTasks.add(new ScheduledTask(trigger, invoker, scheduled.concurrentExecution()));
                 }
             }
         }
@@ -85,12 +94,10 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        ZonedDateTime now = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks) {
+            schedule(task, task.trigger.init(now));
+        }
     }
 
     @PreDestroy
@@ -102,31 +109,77 @@ public class SimpleScheduler implements Scheduler {
         } catch (Exception e) {
             LOGGER.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (dedicatedExecutor) {
+            try {
+                executor.shutdownNow();
+            } catch (Exception e) {
+                LOGGER.warn("Unable to shutdown the scheduled methods executor", e);
+            }
+        }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
+    /**
+     * The executor queue is ordered by the delay, i.e. the scheduler thread sleeps until the next task is due.
+     *
+     * @param task
+     * @param fireTime
+     */
+    void schedule(ScheduledTask task, ZonedDateTime fireTime) {
+        if (fireTime == null) {
+            LOGGER.debugf("Trigger %s will never fire again", task.trigger.id);
+            return;
         }
-        ZonedDateTime now = ZonedDateTime.now();
+        long delay = fireTime.toInstant().toEpochMilli() - System.currentTimeMillis();
+        try {
+            scheduledExecutor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    fire(task, fireTime);
+                }
+            }, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debugf("Trigger %s not scheduled - scheduler stopped", task.trigger.id);
+        }
+    }
 
-        for (ScheduledTask task : scheduledTasks) {
-            LOGGER.tracef("Evaluate trigger %s", task.trigger.id);
-            ZonedDateTime scheduledFireTime = task.trigger.evaluate(now);
-            if (scheduledFireTime != null) {
+    void fire(ScheduledTask task, ZonedDateTime scheduledFireTime) {
+        ZonedDateTime now = ZonedDateTime.now();
+        if (running) {
+            if (task.tryAcquire(scheduledFireTime)) {
                 try {
                     executor.execute(new Runnable() {
                         @Override
                         public void run() {
-                            task.invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger));
+                            execute(task, now, scheduledFireTime);
                         }
                     });
                     LOGGER.debugf("Executing scheduled task for trigger %s", task.trigger.id);
                 } catch (RejectedExecutionException e) {
+                    task.release();
+                    task.trigger.missed.incrementAndGet();
                     LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger.id);
                 }
+            } else {
+                LOGGER.debugf("Trigger %s not executed - previous execution in progress", task.trigger.id);
             }
+        } else {
+            LOGGER.tracef("Skip trigger %s - scheduler paused", task.trigger.id);
         }
+        // The next fire time is only computed once per execution
+        schedule(task, task.trigger.fired(scheduledFireTime, now));
+    }
+
+    void execute(ScheduledTask task, ZonedDateTime fireTime, ZonedDateTime scheduledFireTime) {
+        do {
+            try {
+                task.invoker.invoke(new SimpleScheduledExecution(fireTime, scheduledFireTime, Instant.now(), task.trigger));
+            } catch (Throwable t) {
+                LOGGER.errorf(t, "Error occured while executing task for trigger %s", task.trigger.id);
+            }
+            // A queued execution is performed by the same thread
+            scheduledFireTime = task.releaseOrDequeue();
+            fireTime = scheduledFireTime;
+        } while (scheduledFireTime != null);
     }
 
     @Override
@@ -141,7 +194,7 @@ public class SimpleScheduler implements Scheduler {
 
     SimpleTrigger createTrigger(String invokerClass, CronParser parser, Scheduled scheduled) {
         String id = triggerNameSequence.getAndIncrement() + "_" + invokerClass;
-        ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ZonedDateTime start = ZonedDateTime.now();
         if (scheduled.delay() > 0) {
             start = start.toInstant().plusMillis(scheduled.delayUnit().toMillis(scheduled.delay())).atZone(start.getZone());
         }
@@ -173,20 +226,102 @@ public class SimpleScheduler implements Scheduler {
                 // This could only happen for config-based expressions
                 throw new IllegalStateException("Invalid every() expression on: " + scheduled, e);
             }
+            if (duration.toMillis() < 1) {
+                // This could only happen for config-based expressions
+                throw new IllegalStateException("The every() interval must be at least 1 ms on: " + scheduled);
+            }
             return new IntervalTrigger(id, start, duration.toMillis());
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
     }
 
+    static ExecutorService createExecutor(int maxThreads) {
+        JBossThreadFactory threadFactory = new JBossThreadFactory(new ThreadGroup("scheduler"), Boolean.TRUE, null,
+                "scheduler-thread-%t", JBossExecutors.loggingExceptionHandler("io.quarkus.scheduler.uncaught"), null);
+        return new EnhancedQueueExecutor.Builder()
+                .setRegisterMBean(false)
+                .setHandoffExecutor(JBossExecutors.rejectingExecutor())
+                .setThreadFactory(JBossExecutors.resettingThreadFactory(threadFactory))
+                .setCorePoolSize(maxThreads)
+                .setMaximumPoolSize(maxThreads)
+                .build();
+    }
+
     static class ScheduledTask {
 
+        private static final int IDLE = 0;
+        private static final int RUNNING = 1;
+        private static final int QUEUED = 2;
+
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        final ConcurrentExecution concurrentExecution;
+        // Only used if executions must not overlap
+        private final AtomicInteger state;
+        private volatile ZonedDateTime queuedFireTime;
 
-        public ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
+        public ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, ConcurrentExecution concurrentExecution) {
             this.trigger = trigger;
             this.invoker = invoker;
+            this.concurrentExecution = concurrentExecution;
+            this.state = new AtomicInteger(IDLE);
+        }
+
+        /**
+         * Note that this method is always called by the scheduler thread.
+         *
+         * @param scheduledFireTime
+         * @return {@code true} if a new execution should be submitted, {@code false} if the execution was queued or skipped
+         */
+        boolean tryAcquire(ZonedDateTime scheduledFireTime) {
+            switch (concurrentExecution) {
+                case SKIP:
+                    if (state.compareAndSet(IDLE, RUNNING)) {
+                        return true;
+                    }
+                    trigger.skipped.incrementAndGet();
+                    return false;
+                case QUEUE:
+                    while (true) {
+                        int current = state.get();
+                        if (current == IDLE) {
+                            if (state.compareAndSet(IDLE, RUNNING)) {
+                                return true;
+                            }
+                        } else if (current == RUNNING) {
+                            // The fire time must be visible once the state is changed
+                            queuedFireTime = scheduledFireTime;
+                            if (state.compareAndSet(RUNNING, QUEUED)) {
+                                return false;
+                            }
+                        } else {
+                            trigger.skipped.incrementAndGet();
+                            return false;
+                        }
+                    }
+                default:
+                    return true;
+            }
+        }
+
+        void release() {
+            if (concurrentExecution != ConcurrentExecution.PROCEED) {
+                state.set(IDLE);
+            }
+        }
+
+        /**
+         *
+         * @return the scheduled fire time of the queued execution or {@code null} if there is no queued execution
+         */
+        ZonedDateTime releaseOrDequeue() {
+            if (concurrentExecution == ConcurrentExecution.PROCEED || state.compareAndSet(RUNNING, IDLE)) {
+                return null;
+            }
+            // The state is QUEUED - only the executing thread may change it
+            state.set(RUNNING);
+            return queuedFireTime;
         }
 
     }
@@ -195,61 +330,97 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        final AtomicLong skipped;
+        final AtomicLong missed;
+        private volatile ZonedDateTime nextFireTime;
+        private volatile ZonedDateTime lastFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
             this.start = start;
+            this.skipped = new AtomicLong();
+            this.missed = new AtomicLong();
         }
 
         /**
-         * 
+         *
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the first fire time or {@code null} if the trigger never fires
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        ZonedDateTime init(ZonedDateTime now) {
+            return nextFireTime = computeFirstFireTime(start.isAfter(now) ? start : now);
+        }
+
+        /**
+         *
+         * @param scheduledFireTime
+         * @param now
+         * @return the next fire time or {@code null} if the trigger never fires again
+         */
+        ZonedDateTime fired(ZonedDateTime scheduledFireTime, ZonedDateTime now) {
+            lastFireTime = scheduledFireTime;
+            return nextFireTime = computeNextFireTime(scheduledFireTime, now);
+        }
+
+        /**
+         *
+         * @param from
+         * @return the first fire time, not before {@code from}
+         */
+        abstract ZonedDateTime computeFirstFireTime(ZonedDateTime from);
+
+        /**
+         * Missed executions are skipped, i.e. the next fire time is never before {@code now}. The number of missed
+         * executions should be added to {@link #missed}.
+         *
+         * @param lastFireTime
+         * @param now
+         * @return the next fire time
+         */
+        abstract ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now);
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime last = lastFireTime;
+            return last != null ? last.toInstant() : null;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
-        private final long interval;
-        private volatile ZonedDateTime lastFireTime;
+        private final Duration interval;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
-            this.interval = interval;
+            this.interval = Duration.ofMillis(interval);
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
-                // First execution
-                lastFireTime = now;
-                return now;
-            }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now;
-                return scheduledFireTime;
-            }
-            return null;
+        ZonedDateTime computeFirstFireTime(ZonedDateTime from) {
+            return from;
         }
 
         @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now) {
+            ZonedDateTime next = lastFireTime.plus(interval);
+            if (next.isBefore(now)) {
+                // All fire times before now are missed
+                long elapsed = Duration.between(lastFireTime, now).toMillis();
+                missed.addAndGet((elapsed - 1) / interval.toMillis());
+                return now;
+            }
+            return next;
         }
 
     }
@@ -264,33 +435,22 @@ public class SimpleScheduler implements Scheduler {
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
+        ZonedDateTime computeFirstFireTime(ZonedDateTime from) {
+            return executionTime.nextExecution(from).orElse(null);
         }
 
         @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                long diff = ChronoUnit.MILLIS.between(trunc, now);
-                if (diff <= CHECK_PERIOD) {
-                    return trunc;
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now) {
+            if (now.isAfter(lastFireTime)) {
+                ZonedDateTime next = executionTime.nextExecution(lastFireTime).orElse(null);
+                while (next != null && next.isBefore(now)) {
+                    missed.incrementAndGet();
+                    next = executionTime.nextExecution(next).orElse(null);
                 }
+                return next;
             }
-            return null;
+            // The task may be executed slightly before the scheduled time due to clock adjustments
+            return executionTime.nextExecution(lastFireTime).orElse(null);
         }
 
     }
@@ -299,11 +459,14 @@ public class SimpleScheduler implements Scheduler {
 
         private final ZonedDateTime fireTime;
         private final ZonedDateTime scheduledFireTime;
-        private final Trigger trigger;
+        private final Instant startTime;
+        private final SimpleTrigger trigger;
 
-        public SimpleScheduledExecution(ZonedDateTime fireTime, ZonedDateTime scheduledFireTime, SimpleTrigger trigger) {
+        public SimpleScheduledExecution(ZonedDateTime fireTime, ZonedDateTime scheduledFireTime, Instant startTime,
+                SimpleTrigger trigger) {
             this.fireTime = fireTime;
             this.scheduledFireTime = scheduledFireTime;
+            this.startTime = startTime;
             this.trigger = trigger;
         }
 
@@ -322,6 +485,22 @@ public class SimpleScheduler implements Scheduler {
             return scheduledFireTime.toInstant();
         }
 
+        @Override
+        public Duration getLateness() {
+            Duration lateness = Duration.between(scheduledFireTime.toInstant(), startTime);
+            return lateness.isNegative() ? Duration.ZERO : lateness;
+        }
+
+        @Override
+        public long getSkippedExecutions() {
+            return trigger.skipped.get();
+        }
+
+        @Override
+        public long getMissedExecutions() {
+            return trigger.missed.get();
+        }
+
     }
 
 }
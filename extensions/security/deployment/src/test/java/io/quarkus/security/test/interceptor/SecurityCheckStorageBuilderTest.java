@@ -0,0 +1,79 @@
+package io.quarkus.security.test.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.runtime.interceptor.SecurityCheckStorage;
+import io.quarkus.security.runtime.interceptor.SecurityCheckStorageBuilder;
+import io.quarkus.security.runtime.interceptor.check.DenyAllCheck;
+import io.quarkus.security.runtime.interceptor.check.PermitAllCheck;
+
+public class SecurityCheckStorageBuilderTest {
+
+    @Test
+    public void testRegisteredCheck() throws NoSuchMethodException {
+        SecurityCheckStorageBuilder builder = new SecurityCheckStorageBuilder();
+        builder.registerCheck(Service.class.getName(), "secured", new String[0], DenyAllCheck.INSTANCE);
+        SecurityCheckStorage storage = builder.create();
+
+        Method secured = Service.class.getDeclaredMethod("secured");
+        assertSame(DenyAllCheck.INSTANCE, storage.getSecurityCheck(secured));
+        // The cached check is returned
+        assertSame(DenyAllCheck.INSTANCE, storage.getSecurityCheck(secured));
+    }
+
+    @Test
+    public void testUnsecuredMethod() throws NoSuchMethodException {
+        SecurityCheckStorageBuilder builder = new SecurityCheckStorageBuilder();
+        builder.registerCheck(Service.class.getName(), "secured", new String[0], DenyAllCheck.INSTANCE);
+        SecurityCheckStorage storage = builder.create();
+
+        Method unsecured = Service.class.getDeclaredMethod("unsecured");
+        assertNull(storage.getSecurityCheck(unsecured));
+        // The cached marker of a method without a check is never returned
+        assertNull(storage.getSecurityCheck(unsecured));
+    }
+
+    @Test
+    public void testOverloadedMethods() throws NoSuchMethodException {
+        SecurityCheckStorageBuilder builder = new SecurityCheckStorageBuilder();
+        builder.registerCheck(Service.class.getName(), "overloaded", new String[] { String.class.getName() },
+                DenyAllCheck.INSTANCE);
+        builder.registerCheck(Service.class.getName(), "overloaded", new String[] { int.class.getName() },
+                PermitAllCheck.INSTANCE);
+        SecurityCheckStorage storage = builder.create();
+
+        Method withString = Service.class.getDeclaredMethod("overloaded", String.class);
+        Method withInt = Service.class.getDeclaredMethod("overloaded", int.class);
+        Method withLong = Service.class.getDeclaredMethod("overloaded", long.class);
+        for (int i = 0; i < 2; i++) {
+            assertSame(DenyAllCheck.INSTANCE, storage.getSecurityCheck(withString));
+            assertSame(PermitAllCheck.INSTANCE, storage.getSecurityCheck(withInt));
+            assertNull(storage.getSecurityCheck(withLong));
+        }
+    }
+
+    static class Service {
+
+        void secured() {
+        }
+
+        void unsecured() {
+        }
+
+        void overloaded(String value) {
+        }
+
+        void overloaded(int value) {
+        }
+
+        void overloaded(long value) {
+        }
+
+    }
+
+}
@@ -0,0 +1,283 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * A bounded cache of the security identities created for verified credentials, e.g. bearer tokens.
+ * <p>
+ * The key is the HMAC-SHA256 of the credential, the credential itself is not stored. The secret key of the HMAC is
+ * generated randomly for each cache. An entry expires when the credential
+ * expires or when the max time-to-live elapses, whichever comes first. If the cache is full the least recently used entry is
+ * evicted.
+ * <p>
+ * The entries of a credential that belongs to an owner, e.g. the password of a user, can be invalidated by owner.
+ */
+public class IdentityCache {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final int maxSize;
+    private final long maxTtlMillis;
+    // Access ordered, guarded by itself
+    private final LinkedHashMap<String, Entry> entries;
+    // The keys of the entries by owner, guarded by entries
+    private final Map<String, Set<String>> owners = new HashMap<>();
+    // Incremented on invalidation, guarded by entries
+    private long generation;
+    private final SecretKeySpec secretKey;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public IdentityCache(int maxSize, long maxTtlMillis) {
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtlMillis;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                if (eldest.getValue().expiresAt > System.currentTimeMillis()) {
+                    evictions.incrementAndGet();
+                }
+                removeOwner(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.secretKey = new SecretKeySpec(key, HMAC);
+    }
+
+    /**
+     * Returns the identity cached for a credential that has no owner, e.g. a bearer token.
+     *
+     * @return the cached identity or {@code null}
+     */
+    public SecurityIdentity get(String credential) {
+        return getEntry(hash(null, CharBuffer.wrap(credential)));
+    }
+
+    /**
+     * Returns the identity cached for a credential of the given owner.
+     *
+     * @param owner the owner of the credential, e.g. the username
+     * @param credential the credential, e.g. the password
+     * @return the cached identity or {@code null}
+     */
+    public SecurityIdentity get(String owner, char[] credential) {
+        return getEntry(hash(owner, CharBuffer.wrap(credential)));
+    }
+
+    private SecurityIdentity getEntry(String key) {
+        if (key != null) {
+            synchronized (entries) {
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    if (entry.expiresAt > System.currentTimeMillis()) {
+                        hits.incrementAndGet();
+                        return entry.identity;
+                    }
+                    entries.remove(key);
+                    removeOwner(key, entry);
+                }
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches the identity created for a credential that has no owner, e.g. a bearer token.
+     *
+     * @param expirationTime the expiration time of the credential in milliseconds
+     */
+    public void put(String credential, SecurityIdentity identity, long expirationTime) {
+        putEntry(hash(null, CharBuffer.wrap(credential)), null, identity, expirationTime, -1);
+    }
+
+    /**
+     * Caches the identity created for a credential of the given owner. The entry is not added if the cache was invalidated
+     * since the given generation was read, i.e. while the credential was being verified.
+     *
+     * @param owner the owner of the credential, e.g. the username
+     * @param credential the credential, e.g. the password
+     * @param expirationTime the expiration time of the credential in milliseconds
+     * @param generation the value of {@link #getGeneration()} read before the credential was verified
+     */
+    public void put(String owner, char[] credential, SecurityIdentity identity, long expirationTime, long generation) {
+        putEntry(hash(owner, CharBuffer.wrap(credential)), owner, identity, expirationTime, generation);
+    }
+
+    private void putEntry(String key, String owner, SecurityIdentity identity, long expirationTime, long generation) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(expirationTime, now + maxTtlMillis);
+        if (key == null || expiresAt <= now || maxSize <= 0) {
+            return;
+        }
+        synchronized (entries) {
+            if (generation >= 0 && generation != this.generation) {
+                return;
+            }
+            Entry entry = new Entry(identity, expiresAt, owner);
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                removeOwner(key, previous);
+            }
+            if (owner != null) {
+                owners.computeIfAbsent(owner, o -> new HashSet<>()).add(key);
+            }
+        }
+    }
+
+    private void removeOwner(String key, Entry entry) {
+        if (entry.owner != null) {
+            Set<String> keys = owners.get(entry.owner);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                owners.remove(entry.owner);
+            }
+        }
+    }
+
+    /**
+     * Returns the current generation, which changes every time the cache is invalidated.
+     */
+    public long getGeneration() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Removes the entries of the given owner, e.g. the authentications of a user whose password was changed.
+     */
+    public void invalidate(String owner) {
+        synchronized (entries) {
+            generation++;
+            Set<String> keys = owners.remove(owner);
+            if (keys != null) {
+                entries.keySet().removeAll(keys);
+            }
+        }
+    }
+
+    /**
+     * Removes the entries whose identity matches the given predicate.
+     */
+    public void invalidate(Predicate<SecurityIdentity> predicate) {
+        synchronized (entries) {
+            generation++;
+            for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, Entry> entry = it.next();
+                if (predicate.test(entry.getValue().identity)) {
+                    it.remove();
+                    removeOwner(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+            owners.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of valid entries removed because the cache was full.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Computes the HMAC key of a credential. The encoded credential is cleared afterwards.
+     *
+     * @return the key or {@code null} if the credential cannot be encoded
+     */
+    private String hash(String owner, CharBuffer credential) {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        // Large enough so that the encoded credential is never copied to a larger buffer
+        byte[] bytes = new byte[(int) encoder.maxBytesPerChar() * credential.remaining()];
+        ByteBuffer out = ByteBuffer.wrap(bytes);
+        try {
+            CoderResult result = encoder.encode(credential, out, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(out);
+            }
+            if (!result.isUnderflow()) {
+                // Never replace the invalid characters, two credentials would have the same key
+                return null;
+            }
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(secretKey);
+            if (owner != null) {
+                // The length prefix makes the key unambiguous
+                byte[] ownerBytes = owner.getBytes(StandardCharsets.UTF_8);
+                mac.update(ByteBuffer.allocate(4).putInt(ownerBytes.length).array());
+                mac.update(ownerBytes);
+            }
+            mac.update(bytes, 0, out.position());
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            // The encoded credential is not left on the heap
+            Arrays.fill(bytes, (byte) 0);
+        }
+    }
+
+    private static final class Entry {
+
+        final SecurityIdentity identity;
+        final long expiresAt;
+        final String owner;
+
+        Entry(SecurityIdentity identity, long expiresAt, String owner) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+            this.owner = owner;
+        }
+
+    }
+
+}
@@ -5,10 +5,22 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
+import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.runtime.interceptor.check.SecurityCheck;
 
 public class SecurityCheckStorageBuilder {
+
+    /**
+     * Marks the methods that have no security check in the lookup cache.
+     */
+    private static final SecurityCheck NO_CHECK = new SecurityCheck() {
+        @Override
+        public void apply(SecurityIdentity identity, Method method, Object[] parameters) {
+        }
+    };
+
     private final Map<MethodDescription, SecurityCheck> securityChecks = new HashMap<>();
 
     public void registerCheck(String className,
@@ -20,11 +32,23 @@ public class SecurityCheckStorageBuilder {
 
     public SecurityCheckStorage create() {
         return new SecurityCheckStorage() {
+
+            // Method#hashCode() and Method#equals() are much cheaper than building a MethodDescription for each invocation
+            private final Map<Method, SecurityCheck> checksByMethod = new ConcurrentHashMap<>();
+
             @Override
             public SecurityCheck getSecurityCheck(Method method) {
-                MethodDescription descriptor = new MethodDescription(method.getDeclaringClass().getName(), method.getName(),
-                        typesAsStrings(method.getParameterTypes()));
-                return securityChecks.get(descriptor);
+                SecurityCheck check = checksByMethod.get(method);
+                if (check == null) {
+                    MethodDescription descriptor = new MethodDescription(method.getDeclaringClass().getName(),
+                            method.getName(), typesAsStrings(method.getParameterTypes()));
+                    check = securityChecks.get(descriptor);
+                    if (check == null) {
+                        check = NO_CHECK;
+                    }
+                    checksByMethod.put(method, check);
+                }
+                return check == NO_CHECK ? null : check;
             }
         };
     }
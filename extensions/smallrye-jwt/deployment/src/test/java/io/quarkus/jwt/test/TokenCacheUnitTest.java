@@ -0,0 +1,55 @@
+package io.quarkus.jwt.test;
+
+import java.net.HttpURLConnection;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class TokenCacheUnitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(DefaultGroupsEndpoint.class)
+                    .addAsResource("applicationTokenCache.properties", "application.properties"));
+
+    @Inject
+    MpJwtValidator validator;
+
+    @Test
+    public void testTokenIsVerifiedOnce() throws Exception {
+        IdentityCache cache = validator.getIdentityCache();
+        Assertions.assertNotNull(cache);
+        String token = TokenUtils.generateTokenString("/TokenNoGroups.json");
+        long hits = cache.getHits();
+
+        for (int i = 0; i < 3; i++) {
+            io.restassured.response.Response response = RestAssured.given().auth()
+                    .oauth2(token)
+                    .get("/endp/echo").andReturn();
+            Assertions.assertEquals(HttpURLConnection.HTTP_OK, response.getStatusCode());
+            Assertions.assertEquals("User", response.body().asString());
+        }
+        Assertions.assertEquals(hits + 2, cache.getHits());
+
+        // A token with an invalid signature is never cached
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+        for (int i = 0; i < 2; i++) {
+            io.restassured.response.Response response = RestAssured.given().auth()
+                    .oauth2(tampered)
+                    .get("/endp/echo").andReturn();
+            Assertions.assertEquals(HttpURLConnection.HTTP_UNAUTHORIZED, response.getStatusCode());
+        }
+        Assertions.assertEquals(hits + 2, cache.getHits());
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.security.runtime.IdentityCache;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    public void configureTokenCache(BeanContainer beanContainer, SmallRyeJwtRuntimeConfig config) {
+        if (config.tokenCache.enabled) {
+            beanContainer.instance(MpJwtValidator.class)
+                    .setIdentityCache(new IdentityCache(config.tokenCache.maxSize, config.tokenCache.maxTtl.toMillis()));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Runtime configuration
+ */
+@ConfigRoot(name = "smallrye-jwt", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeJwtRuntimeConfig {
+
+    /**
+     * The verified token cache configuration
+     */
+    @ConfigItem
+    public TokenCacheConfig tokenCache;
+}
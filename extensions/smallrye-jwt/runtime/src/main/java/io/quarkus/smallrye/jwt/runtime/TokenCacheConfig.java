@@ -0,0 +1,32 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class TokenCacheConfig {
+
+    /**
+     * If enabled, the security identity created for a verified token is reused for the subsequent requests with the same
+     * token, i.e. the signature of the token is not verified again until the token expires.
+     * <p>
+     * Note that a cached token remains valid until it expires or the max time-to-live elapses, even if the public key used to
+     * verify it is changed.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The maximum number of cached tokens.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * The maximum amount of time a token is cached, regardless of its expiration time.
+     */
+    @ConfigItem(defaultValue = "5M")
+    public Duration maxTtl;
+}
@@ -10,6 +10,7 @@ import javax.inject.Inject;
 import org.jboss.logging.Logger;
 import org.jose4j.jwt.JwtClaims;
 import org.jose4j.jwt.MalformedClaimException;
+import org.jose4j.jwt.NumericDate;
 import org.jose4j.jwt.consumer.JwtContext;
 
 import io.quarkus.security.AuthenticationFailedException;
@@ -17,6 +18,7 @@ import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.IdentityCache;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.smallrye.jwt.auth.principal.DefaultJWTTokenParser;
 import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
@@ -34,6 +36,8 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     private DefaultJWTTokenParser parser = new DefaultJWTTokenParser();
 
+    private volatile IdentityCache identityCache;
+
     public MpJwtValidator() {
         authContextInfo = null;
     }
@@ -51,8 +55,16 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     @Override
     public CompletionStage<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
             AuthenticationRequestContext context) {
+        String token = request.getToken().getToken();
+        IdentityCache cache = identityCache;
+        if (cache != null) {
+            SecurityIdentity identity = cache.get(token);
+            if (identity != null) {
+                return CompletableFuture.completedFuture(identity);
+            }
+        }
         try {
-            JwtContext jwtContext = parser.parse(request.getToken().getToken(), authContextInfo);
+            JwtContext jwtContext = parser.parse(token, authContextInfo);
 
             JwtClaims claims = jwtContext.getJwtClaims();
             String name = claims.getClaimValue("upn", String.class);
@@ -63,10 +75,14 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
                 }
             }
             QuarkusJwtCallerPrincipal principal = new QuarkusJwtCallerPrincipal(name, claims);
-            return CompletableFuture
-                    .completedFuture(QuarkusSecurityIdentity.builder().setPrincipal(principal)
-                            .addRoles(new HashSet<>(claims.getStringListClaimValue("groups")))
-                            .addAttribute(QuarkusSecurityIdentity.USER_ATTRIBUTE, principal).build());
+            SecurityIdentity identity = QuarkusSecurityIdentity.builder().setPrincipal(principal)
+                    .addRoles(new HashSet<>(claims.getStringListClaimValue("groups")))
+                    .addAttribute(QuarkusSecurityIdentity.USER_ATTRIBUTE, principal).build();
+            NumericDate expirationTime = claims.getExpirationTime();
+            if (cache != null && expirationTime != null) {
+                cache.put(token, identity, expirationTime.getValueInMillis());
+            }
+            return CompletableFuture.completedFuture(identity);
 
         } catch (ParseException | MalformedClaimException e) {
             log.debug("Authentication failed", e);
@@ -75,4 +91,20 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
             return cf;
         }
     }
+
+    /**
+     *
+     * @param identityCache the cache of verified tokens, may be {@code null}
+     */
+    public void setIdentityCache(IdentityCache identityCache) {
+        this.identityCache = identityCache;
+    }
+
+    /**
+     *
+     * @return the cache of verified tokens or {@code null} if caching is disabled
+     */
+    public IdentityCache getIdentityCache() {
+        return identityCache;
+    }
 }
@@ -15,6 +15,7 @@ import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.jboss.logging.Logger;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.netty.channel.EventLoopGroup;
@@ -42,6 +43,7 @@ import io.vertx.core.net.PfxOptions;
 @Recorder
 public class VertxCoreRecorder {
 
+    private static final Logger LOGGER = Logger.getLogger(VertxCoreRecorder.class);
     private static final Pattern COMMA_PATTERN = Pattern.compile(",");
 
     static volatile VertxSupplier vertx;
@@ -102,7 +104,7 @@ public class VertxCoreRecorder {
             webVertx = Vertx.vertx();
         } else {
             VertxOptions options = convertToVertxOptions(conf, false);
-            webVertx = Vertx.vertx(options);
+            webVertx = checkTransport(conf, Vertx.vertx(options));
         }
     }
 
@@ -126,12 +128,23 @@ public class VertxCoreRecorder {
                     latch.complete(ar.result());
                 }
             });
-            return latch.join();
+            return checkTransport(conf, latch.join());
         } else {
-            return Vertx.vertx(options);
+            return checkTransport(conf, Vertx.vertx(options));
         }
     }
 
+    private static Vertx checkTransport(VertxConfiguration conf, Vertx vertx) {
+        if (conf.preferNativeTransport) {
+            if (vertx.isNativeTransportEnabled()) {
+                LOGGER.debug("Vert.x uses the native transport");
+            } else {
+                LOGGER.warn("The native transport is preferred but it is not available, Vert.x uses the JDK NIO transport");
+            }
+        }
+        return vertx;
+    }
+
     private static VertxOptions convertToVertxOptions(VertxConfiguration conf, boolean allowClustering) {
         VertxOptions options = new VertxOptions();
 
@@ -148,6 +161,7 @@ public class VertxCoreRecorder {
                 .setFileCachingEnabled(conf.caching)
                 .setFileCacheDir(fileCacheDir)
                 .setClassPathResolvingEnabled(conf.classpathResolving));
+        options.setPreferNativeTransport(conf.preferNativeTransport);
         options.setWorkerPoolSize(conf.workerPoolSize);
         options.setInternalBlockingPoolSize(conf.internalBlockingPoolSize);
 
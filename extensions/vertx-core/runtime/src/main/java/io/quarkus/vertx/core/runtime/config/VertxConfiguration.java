@@ -61,6 +61,16 @@ public class VertxConfiguration {
     @ConfigItem(defaultValue = "20")
     public int internalBlockingPoolSize;
 
+    /**
+     * Prefer the Netty native transport, i.e. epoll on Linux and kqueue on macOS, over the JDK NIO transport.
+     * <p>
+     * The native transport is only used if the corresponding Netty artifact, e.g.
+     * {@code io.netty:netty-transport-native-epoll} with the {@code linux-x86_64} classifier, is added to the application.
+     * Otherwise the JDK NIO transport is used.
+     */
+    @ConfigItem
+    public boolean preferNativeTransport;
+
     /**
      * Enables the async DNS resolver.
      */
@@ -66,6 +66,17 @@ public class VertxCoreProducerTest {
         verifyProducer();
     }
 
+    @Test
+    public void shouldFallBackToNioTransport() {
+        VertxConfiguration configuration = createDefaultConfiguration();
+        configuration.preferNativeTransport = true;
+        VertxCoreRecorder.vertx = new VertxCoreRecorder.VertxSupplier(configuration);
+        producer.initialize(VertxCoreRecorder.vertx);
+        verifyProducer();
+        // The native transport is not on the classpath
+        assertFalse(producer.vertx().isNativeTransportEnabled());
+    }
+
     @Test
     public void shouldEnableClustering() {
         VertxConfiguration configuration = createDefaultConfiguration();
@@ -0,0 +1,68 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+
+public class CompressionTest {
+
+    private static final String BODY;
+
+    static {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("{\"id\": ").append(i).append(", \"name\": \"compressed\"}\n");
+        }
+        BODY = builder.toString();
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(BeanRegisteringRoute.class)
+                    .addAsResource(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.compression-level=9\n"
+                            + "quarkus.http.so-reuse-port=true\n"), "application.properties"));
+
+    @Test
+    public void testCompressed() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/compressed")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .body(is(BODY));
+    }
+
+    @Test
+    public void testNotAccepted() {
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .get("/compressed")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(BODY));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        void init(@Observes Router router) {
+            router.route("/compressed").handler(rc -> rc.response().end(BODY));
+        }
+
+    }
+
+}
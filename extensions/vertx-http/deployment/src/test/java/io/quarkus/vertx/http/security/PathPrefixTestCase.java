@@ -0,0 +1,68 @@
+package io.quarkus.vertx.http.security;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PathPrefixTestCase {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.auth.basic=true\n" +
+            "quarkus.http.auth.permission.deny1.paths=/api/*\n" +
+            "quarkus.http.auth.permission.deny1.policy=deny\n" +
+            "quarkus.http.auth.permission.permit1.paths=/api/public/*,/api/status\n" +
+            "quarkus.http.auth.permission.permit1.policy=permit\n" +
+            "quarkus.http.auth.permission.permit2.paths=/api/public/admin/*\n" +
+            "quarkus.http.auth.permission.permit2.methods=GET\n" +
+            "quarkus.http.auth.permission.permit2.policy=authenticated\n";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest().setArchiveProducer(new Supplier<JavaArchive>() {
+        @Override
+        public JavaArchive get() {
+            return ShrinkWrap.create(JavaArchive.class).addClasses(TestIdentityProvider.class, PathHandler.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties");
+        }
+    });
+
+    @BeforeAll
+    public static void setup() {
+        TestIdentityController.resetRoles().add("test", "test", "test");
+    }
+
+    @Test
+    public void testLongestPrefixWins() {
+        RestAssured.given().when().get("/api/other").then().assertThat().statusCode(401);
+        RestAssured.given().when().get("/api/status").then().assertThat().statusCode(200)
+                .body(equalTo(":/api/status"));
+        RestAssured.given().when().get("/api/public").then().assertThat().statusCode(200)
+                .body(equalTo(":/api/public"));
+        RestAssured.given().when().get("/api/public/foo/bar").then().assertThat().statusCode(200)
+                .body(equalTo(":/api/public/foo/bar"));
+        // The prefix only matches whole path segments
+        RestAssured.given().when().get("/api/publicity").then().assertThat().statusCode(401);
+        // An exact path does not match the sub-paths
+        RestAssured.given().when().get("/api/status/foo").then().assertThat().statusCode(401);
+    }
+
+    @Test
+    public void testMethodOfNestedPrefix() {
+        RestAssured.given().when().get("/api/public/admin/foo").then().assertThat().statusCode(401);
+        RestAssured.given().auth().preemptive().basic("test", "test").when().get("/api/public/admin/foo").then()
+                .assertThat().statusCode(200)
+                .body(equalTo("test:/api/public/admin/foo"));
+        // No permission matches the method, the request is denied
+        RestAssured.given().auth().preemptive().basic("test", "test").when().post("/api/public/admin/foo").then()
+                .assertThat().statusCode(403);
+    }
+}
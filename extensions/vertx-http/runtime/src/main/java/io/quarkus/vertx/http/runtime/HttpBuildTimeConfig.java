@@ -15,6 +15,11 @@ public class HttpBuildTimeConfig {
 
     public AuthConfig auth;
 
+    /**
+     * Static resources configuration
+     */
+    public StaticResourcesConfig staticResources;
+
     /**
      * If this is true then only a virtual channel will be set up for vertx web.
      * We have this switch for testing purposes.
@@ -66,6 +66,8 @@ public class HttpConfiguration {
      *
      * In general this should be controlled by setting quarkus.vertx.event-loops-pool-size, this setting should only
      * be used if you want to limit the number of HTTP io threads to a smaller number than the total number of IO threads.
+     *
+     * One HTTP server verticle is deployed per IO thread and the accepted connections are distributed among them.
      */
     @ConfigItem
     public OptionalInt ioThreads;
@@ -86,6 +88,67 @@ public class HttpConfiguration {
      */
     public BodyConfig body;
 
+    /**
+     * If responses should be compressed.
+     * <p>
+     * The response body is compressed with gzip or deflate, depending on the {@code Accept-Encoding} header of the request.
+     * Responses that already set the {@code Content-Encoding} header are not compressed.
+     */
+    @ConfigItem
+    public boolean enableCompression;
+
+    /**
+     * The compression level used if the compression is enabled, from {@code 1} (fastest) to {@code 9} (best compression).
+     * The default level is {@code 6}.
+     */
+    @ConfigItem
+    public OptionalInt compressionLevel;
+
+    /**
+     * If this is true then HTTP/2 will be negotiated via ALPN on the HTTPS server.
+     * <p>
+     * ALPN requires JDK 9 or later, HTTP/2 is not enabled if it is not available. Note that the HTTP server always accepts
+     * HTTP/2 clear text (h2c) connections.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean http2;
+
+    /**
+     * The initial HTTP/2 flow-control window size of the streams, in bytes. The default is {@code 65535}.
+     */
+    @ConfigItem
+    public OptionalInt initialWindowSize;
+
+    /**
+     * Enable the {@code TCP_NODELAY} option.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean tcpNoDelay;
+
+    /**
+     * Enable the {@code TCP_FASTOPEN} option. This is only supported with a native transport.
+     */
+    @ConfigItem
+    public boolean tcpFastOpen;
+
+    /**
+     * Enable the {@code TCP_QUICKACK} option. This is only supported with a native transport.
+     */
+    @ConfigItem
+    public boolean tcpQuickAck;
+
+    /**
+     * Enable the {@code TCP_CORK} option. This is only supported with a native transport.
+     */
+    @ConfigItem
+    public boolean tcpCork;
+
+    /**
+     * Enable the {@code SO_REUSEPORT} option. This is only supported with a native transport.
+     */
+    @ConfigItem
+    public boolean soReusePort;
+
     /**
      * The encryption key that is used to store persistent logins (e.g. for form auth). Logins are stored in a persistent
      * cookie that is encrypted with AES-256 using a key derived from a SHA-256 hash of the key that is provided here.
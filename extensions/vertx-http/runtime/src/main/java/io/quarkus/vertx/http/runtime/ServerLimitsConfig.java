@@ -1,6 +1,7 @@
 package io.quarkus.vertx.http.runtime;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -20,4 +21,11 @@ public class ServerLimitsConfig {
      */
     @ConfigItem
     public Optional<MemorySize> maxBodySize;
+
+    /**
+     * The maximum number of concurrent streams of an HTTP/2 connection.
+     * The default is {@code 100}.
+     */
+    @ConfigItem
+    public OptionalInt maxConcurrentStreams;
 }
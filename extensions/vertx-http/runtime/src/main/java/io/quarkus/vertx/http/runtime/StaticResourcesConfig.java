@@ -0,0 +1,30 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Static resources served from {@code META-INF/resources}
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * Whether text based static resources should be compressed with gzip during the build.
+     * <p>
+     * The compressed variant is sent to the clients that accept the gzip encoding. It is only kept if it is significantly
+     * smaller than the original resource.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean compress;
+
+    /**
+     * The maximum size of a static resource that is kept in memory once it is requested for the first time.
+     * <p>
+     * Such resources are sent with a strong {@code ETag} computed during the build. Larger resources are read from the
+     * classpath for each request. Static resources are never cached in the development mode.
+     */
+    @ConfigItem(defaultValue = "256K")
+    public MemorySize maxCachedSize;
+}
@@ -55,6 +55,7 @@ import io.vertx.core.http.impl.Http1xServerConnection;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.JksOptions;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PfxOptions;
@@ -320,8 +321,14 @@ public class VertxHttpRecorder {
         final Optional<Path> trustStoreFile = sslConfig.certificate.trustStoreFile;
         final Optional<String> trustStorePassword = sslConfig.certificate.trustStorePassword;
         final HttpServerOptions serverOptions = new HttpServerOptions();
-        serverOptions.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
-        setIdleTimeout(httpConfiguration, serverOptions);
+        applyCommonOptions(httpConfiguration, serverOptions);
+        if (httpConfiguration.http2) {
+            if (JdkSSLEngineOptions.isAlpnAvailable()) {
+                serverOptions.setUseAlpn(true);
+            } else {
+                LOGGER.debug("HTTP/2 is not enabled on the HTTPS server as ALPN is not available");
+            }
+        }
 
         if (certFile.isPresent() && keyFile.isPresent()) {
             createPemKeyCertOptions(certFile.get(), keyFile.get(), serverOptions);
@@ -467,12 +474,34 @@ public class VertxHttpRecorder {
         HttpServerOptions options = new HttpServerOptions();
         options.setHost(httpConfiguration.host);
         options.setPort(httpConfiguration.determinePort(launchMode));
-        setIdleTimeout(httpConfiguration, options);
-        options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
+        applyCommonOptions(httpConfiguration, options);
         options.setWebsocketSubProtocols(websocketSubProtocols);
         return options;
     }
 
+    /**
+     * Applies the options shared by the HTTP and HTTPS servers.
+     */
+    private static void applyCommonOptions(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        setIdleTimeout(httpConfiguration, options);
+        options.setMaxHeaderSize(httpConfiguration.limits.maxHeaderSize.asBigInteger().intValueExact());
+        options.setCompressionSupported(httpConfiguration.enableCompression);
+        if (httpConfiguration.compressionLevel.isPresent()) {
+            options.setCompressionLevel(httpConfiguration.compressionLevel.getAsInt());
+        }
+        if (httpConfiguration.limits.maxConcurrentStreams.isPresent()) {
+            options.getInitialSettings().setMaxConcurrentStreams(httpConfiguration.limits.maxConcurrentStreams.getAsInt());
+        }
+        if (httpConfiguration.initialWindowSize.isPresent()) {
+            options.getInitialSettings().setInitialWindowSize(httpConfiguration.initialWindowSize.getAsInt());
+        }
+        options.setTcpNoDelay(httpConfiguration.tcpNoDelay);
+        options.setTcpFastOpen(httpConfiguration.tcpFastOpen);
+        options.setTcpQuickAck(httpConfiguration.tcpQuickAck);
+        options.setTcpCork(httpConfiguration.tcpCork);
+        options.setReusePort(httpConfiguration.soReusePort);
+    }
+
     private static void setIdleTimeout(HttpConfiguration httpConfiguration, HttpServerOptions options) {
         int idleTimeout = (int) httpConfiguration.idleTimeout.toMillis();
         options.setIdleTimeout(idleTimeout);
@@ -28,12 +28,19 @@ public class VertxInputStream extends InputStream {
 
     @Override
     public int read() throws IOException {
-        byte[] b = new byte[1];
-        int read = read(b);
-        if (read == -1) {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        readIntoBuffer();
+        if (finished) {
             return -1;
         }
-        return b[0] & 0xff;
+        int b = pooled.readByte() & 0xff;
+        if (!pooled.isReadable()) {
+            pooled.release();
+            pooled = null;
+        }
+        return b;
     }
 
     @Override
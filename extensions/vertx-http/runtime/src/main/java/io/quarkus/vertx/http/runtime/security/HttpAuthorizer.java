@@ -112,36 +112,65 @@ public class HttpAuthorizer {
     private void doPermissionCheck(RoutingContext routingContext,
             SecurityIdentity identity, int index,
             List<HttpSecurityPolicy> permissionCheckers) {
-        if (index == permissionCheckers.size()) {
-            QuarkusHttpUser currentUser = (QuarkusHttpUser) routingContext.user();
-            if (!identity.isAnonymous() && (currentUser == null || currentUser.getSecurityIdentity() != identity)) {
-                routingContext.setUser(new QuarkusHttpUser(identity));
-            }
-            routingContext.next();
-            return;
-        }
-        //get the current checker
-        HttpSecurityPolicy res = permissionCheckers.get(index);
-        res.checkPermission(routingContext, identity, CONTEXT)
-                .handle(new BiFunction<HttpSecurityPolicy.CheckResult, Throwable, Object>() {
+        while (index < permissionCheckers.size()) {
+            //get the current checker
+            HttpSecurityPolicy res = permissionCheckers.get(index);
+            CompletionStage<HttpSecurityPolicy.CheckResult> stage = res.checkPermission(routingContext, identity, CONTEXT);
+            HttpSecurityPolicy.CheckResult checkResult = getIfCompleted(stage);
+            if (checkResult == null) {
+                //the checker is asynchronous, continue when it completes
+                int next = index + 1;
+                SecurityIdentity current = identity;
+                stage.handle(new BiFunction<HttpSecurityPolicy.CheckResult, Throwable, Object>() {
                     @Override
                     public Object apply(HttpSecurityPolicy.CheckResult checkResult, Throwable throwable) {
                         if (throwable != null) {
                             routingContext.fail(throwable);
                         } else {
                             if (!checkResult.isPermitted()) {
-                                doDeny(identity, routingContext);
+                                doDeny(current, routingContext);
                             } else {
                                 SecurityIdentity newIdentity = checkResult.getAugmentedIdentity() != null
                                         ? checkResult.getAugmentedIdentity()
-                                        : identity;
+                                        : current;
                                 //attempt to run the next checker
-                                doPermissionCheck(routingContext, newIdentity, index + 1, permissionCheckers);
+                                doPermissionCheck(routingContext, newIdentity, next, permissionCheckers);
                             }
                         }
                         return null;
                     }
                 });
+                return;
+            }
+            if (!checkResult.isPermitted()) {
+                doDeny(identity, routingContext);
+                return;
+            }
+            if (checkResult.getAugmentedIdentity() != null) {
+                identity = checkResult.getAugmentedIdentity();
+            }
+            index++;
+        }
+        QuarkusHttpUser currentUser = (QuarkusHttpUser) routingContext.user();
+        if (!identity.isAnonymous() && (currentUser == null || currentUser.getSecurityIdentity() != identity)) {
+            routingContext.setUser(new QuarkusHttpUser(identity));
+        }
+        routingContext.next();
+    }
+
+    /**
+     * Most policies complete synchronously, their result can be used without registering a callback.
+     *
+     * @return the result if the stage completed normally, {@code null} otherwise
+     */
+    static HttpSecurityPolicy.CheckResult getIfCompleted(CompletionStage<HttpSecurityPolicy.CheckResult> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<HttpSecurityPolicy.CheckResult> future = (CompletableFuture<HttpSecurityPolicy.CheckResult>) stage;
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                return future.getNow(null);
+            }
+        }
+        return null;
     }
 
     private void doDeny(SecurityIdentity identity, RoutingContext routingContext) {
@@ -3,10 +3,9 @@ package io.quarkus.vertx.http.runtime.security;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
@@ -24,51 +23,77 @@ import io.vertx.ext.web.RoutingContext;
  * A security policy that allows for matching of other security policies based on paths.
  *
  * This is used for the default path/method based RBAC.
+ * <p>
+ * The permissions are compiled once when the policy is initialized: the exact paths are kept in a map, the prefix paths
+ * in a tree keyed by path segment, and the checkers to run for each HTTP method are precomputed, so that no matching
+ * state is allocated per request. The checkers which complete synchronously are run in a loop without chaining futures.
  */
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private final Map<String, Checkers> exactPaths = new HashMap<>();
+    private final PrefixNode prefixPaths = new PrefixNode();
 
     @Override
     public CompletionStage<CheckResult> checkPermission(RoutingContext routingContext, SecurityIdentity identity,
             AuthorizationRequestContext requestContext) {
-        CompletableFuture<CheckResult> latch = new CompletableFuture<>();
         List<HttpSecurityPolicy> permissionCheckers = findPermissionCheckers(routingContext.request());
-        doPermissionCheck(routingContext, latch, identity, 0, permissionCheckers, requestContext);
-        return latch;
+        if (permissionCheckers.isEmpty()) {
+            return CompletableFuture.completedFuture(new CheckResult(true, identity));
+        }
+        return doPermissionCheck(routingContext, null, identity, 0, permissionCheckers, requestContext);
     }
 
-    private void doPermissionCheck(RoutingContext routingContext, CompletableFuture<CheckResult> latch,
-            SecurityIdentity identity, int index,
+    private CompletionStage<CheckResult> doPermissionCheck(RoutingContext routingContext,
+            CompletableFuture<CheckResult> latch, SecurityIdentity identity, int index,
             List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext) {
-        if (index == permissionCheckers.size()) {
-            latch.complete(new CheckResult(true, identity));
-            return;
-        }
-        //get the current checker
-        HttpSecurityPolicy res = permissionCheckers.get(index);
-        res.checkPermission(routingContext, identity, requestContext)
-                .handle(new BiFunction<HttpSecurityPolicy.CheckResult, Throwable, Object>() {
+        while (index < permissionCheckers.size()) {
+            //get the current checker
+            HttpSecurityPolicy res = permissionCheckers.get(index);
+            CompletionStage<CheckResult> stage = res.checkPermission(routingContext, identity, requestContext);
+            CheckResult checkResult = HttpAuthorizer.getIfCompleted(stage);
+            if (checkResult == null) {
+                //the checker is asynchronous, continue when it completes
+                CompletableFuture<CheckResult> result = latch != null ? latch : new CompletableFuture<>();
+                int next = index + 1;
+                SecurityIdentity current = identity;
+                stage.handle(new BiFunction<HttpSecurityPolicy.CheckResult, Throwable, Object>() {
                     @Override
                     public Object apply(CheckResult checkResult, Throwable throwable) {
                         if (throwable != null) {
-                            latch.completeExceptionally(throwable);
+                            result.completeExceptionally(throwable);
+                        } else if (!checkResult.isPermitted()) {
+                            result.complete(CheckResult.DENY);
                         } else {
-                            if (!checkResult.isPermitted()) {
-                                latch.complete(CheckResult.DENY);
-                            } else {
-                                SecurityIdentity newIdentity = checkResult.getAugmentedIdentity() != null
-                                        ? checkResult.getAugmentedIdentity()
-                                        : identity;
-                                //attempt to run the next checker
-                                doPermissionCheck(routingContext, latch, newIdentity, index + 1, permissionCheckers,
-                                        requestContext);
-                            }
+                            SecurityIdentity newIdentity = checkResult.getAugmentedIdentity() != null
+                                    ? checkResult.getAugmentedIdentity()
+                                    : current;
+                            //attempt to run the next checker
+                            doPermissionCheck(routingContext, result, newIdentity, next, permissionCheckers,
+                                    requestContext);
                         }
                         return null;
                     }
                 });
+                return result;
+            }
+            if (!checkResult.isPermitted()) {
+                return complete(latch, CheckResult.DENY);
+            }
+            if (checkResult.getAugmentedIdentity() != null) {
+                identity = checkResult.getAugmentedIdentity();
+            }
+            index++;
+        }
+        return complete(latch, new CheckResult(true, identity));
+    }
+
+    private static CompletionStage<CheckResult> complete(CompletableFuture<CheckResult> latch, CheckResult result) {
+        if (latch == null) {
+            return CompletableFuture.completedFuture(result);
+        }
+        latch.complete(result);
+        return latch;
     }
 
     void init(HttpBuildTimeConfig config, Map<String, Supplier<HttpSecurityPolicy>> supplierMap) {
@@ -77,7 +102,7 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
             permissionCheckers.put(i.getKey(), i.getValue().get());
         }
 
-        Map<String, List<HttpMatcher>> tempMap = new HashMap<>();
+        Map<String, List<HttpMatcher>> tempMap = new LinkedHashMap<>();
         for (Map.Entry<String, PolicyMappingConfig> entry : config.auth.permissions.entrySet()) {
             HttpSecurityPolicy checker = permissionCheckers.get(entry.getValue().policy);
             if (checker == null) {
@@ -85,62 +110,133 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
             }
 
             for (String path : entry.getValue().paths.orElse(Collections.emptyList())) {
-                if (tempMap.containsKey(path)) {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    tempMap.get(path).add(m);
-                } else {
-                    HttpMatcher m = new HttpMatcher(new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                            checker);
-                    List<HttpMatcher> perms = new ArrayList<>();
-                    tempMap.put(path, perms);
-                    perms.add(m);
-                    if (path.endsWith("/*")) {
-                        String stripped = path.substring(0, path.length() - 2);
-                        pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                    } else if (path.endsWith("*")) {
-                        pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                    } else {
-                        pathMatcher.addExactPath(path, perms);
-                    }
+                tempMap.computeIfAbsent(path, p -> new ArrayList<>())
+                        .add(new HttpMatcher(entry.getValue().methods.orElse(Collections.emptyList()), checker));
+            }
+        }
+
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            Checkers checkers = new Checkers(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                addPrefixPath(stripped.isEmpty() ? "/" : stripped, checkers);
+            } else if (path.endsWith("*")) {
+                addPrefixPath(path.substring(0, path.length() - 1), checkers);
+            } else {
+                if (path.isEmpty()) {
+                    throw new IllegalArgumentException("Path not specified");
                 }
+                exactPaths.put(path, checkers);
             }
         }
     }
 
-    public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return Collections.emptyList();
+    private void addPrefixPath(String prefix, Checkers checkers) {
+        if (prefix.isEmpty()) {
+            throw new IllegalArgumentException("Path not specified");
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
-            }
+        PrefixNode node = prefixPaths;
+        // the segments of "/foo/bar" are "foo" and "bar", "/" is the root
+        if (!prefix.equals("/")) {
+            int start = prefix.charAt(0) == '/' ? 1 : 0;
+            int end;
+            do {
+                end = prefix.indexOf('/', start);
+                String segment = end < 0 ? prefix.substring(start) : prefix.substring(start, end);
+                node = node.children.computeIfAbsent(segment, s -> new PrefixNode());
+                start = end + 1;
+            } while (end >= 0);
         }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
+        node.checkers = checkers;
+    }
+
+    public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
+        String path = request.path();
+        Checkers checkers = exactPaths.get(path);
+        if (checkers == null) {
+            checkers = findPrefixPath(path);
+            if (checkers == null) {
+                return Collections.emptyList();
+            }
         }
+        return checkers.forMethod(request.method().toString());
+    }
 
+    /**
+     *
+     * @return the checkers of the longest prefix that matches whole path segments, or {@code null}
+     */
+    private Checkers findPrefixPath(String path) {
+        PrefixNode node = prefixPaths;
+        Checkers longest = node.checkers;
+        int start = path.startsWith("/") ? 1 : 0;
+        int length = path.length();
+        while (start <= length && !node.children.isEmpty()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.children.get(path.substring(start, end));
+            if (node == null) {
+                break;
+            }
+            if (node.checkers != null) {
+                longest = node.checkers;
+            }
+            start = end + 1;
+        }
+        return longest;
     }
 
     static class HttpMatcher {
 
-        final Set<String> methods;
+        final List<String> methods;
         final HttpSecurityPolicy checker;
 
-        HttpMatcher(Set<String> methods, HttpSecurityPolicy checker) {
+        HttpMatcher(List<String> methods, HttpSecurityPolicy checker) {
             this.methods = methods;
             this.checker = checker;
         }
     }
+
+    /**
+     * The checkers of a single path, precomputed per HTTP method.
+     */
+    static final class Checkers {
+
+        final Map<String, List<HttpSecurityPolicy>> methodMatch = new HashMap<>();
+        final List<HttpSecurityPolicy> noMethod;
+
+        Checkers(List<HttpMatcher> matchers) {
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            for (HttpMatcher i : matchers) {
+                if (i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        List<HttpSecurityPolicy> checkers = methodMatch.computeIfAbsent(method, m -> new ArrayList<>());
+                        if (!checkers.contains(i.checker)) {
+                            checkers.add(i.checker);
+                        }
+                    }
+                }
+            }
+            //we deny if we did not match due to method filtering
+            this.noMethod = noMethod.isEmpty() ? Collections.singletonList(DenySecurityPolicy.INSTANCE)
+                    : Collections.unmodifiableList(noMethod);
+            methodMatch.replaceAll((m, l) -> Collections.unmodifiableList(l));
+        }
+
+        List<HttpSecurityPolicy> forMethod(String method) {
+            List<HttpSecurityPolicy> checkers = methodMatch.get(method);
+            return checkers != null ? checkers : noMethod;
+        }
+    }
+
+    static final class PrefixNode {
+
+        final Map<String, PrefixNode> children = new HashMap<>();
+        Checkers checkers;
+    }
 }
@@ -88,6 +88,9 @@ public class BeanGenerator extends AbstractGenerator {
 
     protected final PrivateMembersCollector privateMembers;
 
+    // Request scoped beans are assigned consecutive indexes in the order in which they are generated
+    private int requestContextIndex;
+
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers) {
         this.annotationLiterals = annotationLiterals;
@@ -223,6 +226,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -304,6 +310,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -400,6 +409,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -481,6 +493,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (BuiltinScope.REQUEST.is(bean.getScope())) {
+            implementGetRequestContextIndex(beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -1546,6 +1561,17 @@ public class BeanGenerator extends AbstractGenerator {
                 .returnValue(isDefaultBean.load(bean.isDefaultBean()));
     }
 
+    /**
+     *
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(ClassCreator beanCreator) {
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex.returnValue(getRequestContextIndex.load(requestContextIndex++));
+    }
+
     protected void implementGetStereotypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor stereotypesField) {
         MethodCreator getStereotypes = beanCreator.getMethodCreator("getStereotypes", Set.class).setModifiers(ACC_PUBLIC);
         getStereotypes.returnValue(getStereotypes.readInstanceField(stereotypesField, getStereotypes.getThis()));
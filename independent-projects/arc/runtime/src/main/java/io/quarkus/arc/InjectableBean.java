@@ -105,4 +105,14 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * A {@link javax.enterprise.context.RequestScoped} bean is assigned a unique index at build time. The index is used to
+     * store the contextual instance in the request context without a map lookup.
+     *
+     * @return the index of the bean in the request context, or {@code -1} if no index is assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
 }
@@ -73,13 +73,19 @@ public class ArcContainerImpl implements ArcContainer {
 
     // List of "ambiguous" contexts that could share a scope
     private final List<InjectableContext> contexts;
-    private final ManagedContext requestContext;
+    private final RequestContext requestContext;
     private final InjectableContext applicationContext;
     private final InjectableContext singletonContext;
 
+    // Beans indexed by the raw types of their bean types and by their names
+    private final Map<Class<?>, List<InjectableBean<?>>> beansByRawType;
+    private final Map<String, List<InjectableBean<?>>> beansByNameIndex;
+
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    // Resolved observers are shared by all Event instances
+    private final ComputingCache<ResolvableEvent, List<InjectableObserverMethod<?>>> resolvedObservers;
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
@@ -131,9 +137,15 @@ public class ArcContainerImpl implements ArcContainer {
 
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
+        beansByRawType = new HashMap<>();
+        beansByNameIndex = new HashMap<>();
+        indexBeans();
+        requestContext.index(beans);
+
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -147,6 +159,38 @@ public class ArcContainerImpl implements ArcContainer {
         beans.add(new InstanceBean());
     }
 
+    private void indexBeans() {
+        for (InjectableBean<?> bean : beans) {
+            Set<Class<?>> rawTypes = new HashSet<>();
+            for (Type type : bean.getTypes()) {
+                Class<?> rawType = getIndexKey(type);
+                if (rawType != null && rawTypes.add(rawType)) {
+                    beansByRawType.computeIfAbsent(rawType, t -> new ArrayList<>()).add(bean);
+                }
+            }
+            if (bean.getName() != null) {
+                beansByNameIndex.computeIfAbsent(bean.getName(), n -> new ArrayList<>()).add(bean);
+            }
+        }
+    }
+
+    /**
+     * A bean type may only match a required type with the same raw type. Primitive types and their wrappers are considered
+     * identical.
+     * 
+     * @param type
+     * @return the raw type used as a key in the index, or {@code null} if the type has no raw type
+     * @see BeanTypeAssignabilityRules
+     */
+    private static Class<?> getIndexKey(Type type) {
+        if (type instanceof Class<?>) {
+            return Types.boxedClass((Class<?>) type);
+        }
+        // A generic array type is mapped to the array class of its raw component type and a type variable to the raw type
+        // of its bound
+        return Types.getRawType(type);
+    }
+
     public void init() {
         requireRunning();
         // Fire an event with qualifier @Initialized(ApplicationScoped.class)
@@ -318,7 +362,10 @@ public class ArcContainerImpl implements ArcContainer {
             // Clear caches
             contexts.clear();
             beans.clear();
+            beansByRawType.clear();
+            beansByNameIndex.clear();
             resolved.clear();
+            resolvedObservers.clear();
             observers.clear();
             running.set(false);
             LOGGER.debugf("ArC DI container shut down");
@@ -494,8 +541,17 @@ public class ArcContainerImpl implements ArcContainer {
     }
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
+        Class<?> rawType = getIndexKey(resolvable.requiredType);
+        if (rawType == null) {
+            // No bean type can match
+            return Collections.emptyList();
+        }
+        List<InjectableBean<?>> candidates = beansByRawType.get(rawType);
+        if (candidates == null) {
+            return Collections.emptyList();
+        }
         List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
+        for (InjectableBean<?> bean : candidates) {
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -504,13 +560,8 @@ public class ArcContainerImpl implements ArcContainer {
     }
 
     List<InjectableBean<?>> getMatchingBeans(String name) {
-        List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
-            if (name.equals(bean.getName())) {
-                matching.add(bean);
-            }
-        }
-        return matching;
+        List<InjectableBean<?>> matching = beansByNameIndex.get(name);
+        return matching != null ? matching : Collections.emptyList();
     }
 
     private static int compareAlternativeBeans(InjectableBean<?> bean1, InjectableBean<?> bean2) {
@@ -526,24 +577,38 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * The result is cached, i.e. the observers for a specific event type and set of qualifiers are only resolved once.
+     *
+     * @param eventType
+     * @param eventQualifiers
+     * @return the immutable list of resolved observers
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
         if (observers.isEmpty()) {
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        return (List) resolvedObservers.getValue(new ResolvableEvent(eventType, eventQualifiers));
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(ResolvableEvent event) {
+        Set<Type> eventTypes = new HierarchyDiscovery(event.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || Qualifiers.isSubset(observer.getObservedQualifiers(), event.qualifiers)) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
+        if (resolvedObservers.isEmpty()) {
+            return Collections.emptyList();
+        }
         // Observers with smaller priority values are called first
         Collections.sort(resolvedObservers, InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return Collections.unmodifiableList(resolvedObservers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -677,4 +742,38 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
     }
+
+    private static final class ResolvableEvent {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        private final int hashCode;
+
+        ResolvableEvent(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+            this.hashCode = 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ResolvableEvent)) {
+                return false;
+            }
+            ResolvableEvent other = (ResolvableEvent) obj;
+            return hashCode == other.hashCode && eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
 }
@@ -5,7 +5,6 @@ import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -132,10 +131,8 @@ class EventImpl<T> implements Event<T> {
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
             ArcContainerImpl container) {
         EventMetadata metadata = new EventMetadataImpl(qualifiers, eventType);
-        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>();
-        for (ObserverMethod<? super T> observerMethod : container.resolveObservers(eventType, qualifiers)) {
-            notifierObserverMethods.add(observerMethod);
-        }
+        // The resolved list is immutable and shared across all notifiers for the given event type and qualifiers
+        List<? extends ObserverMethod<? super T>> notifierObserverMethods = container.resolveObservers(eventType, qualifiers);
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata);
     }
 
@@ -194,11 +191,11 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
 
-        private final List<ObserverMethod<? super T>> observerMethods;
+        private final List<? extends ObserverMethod<? super T>> observerMethods;
 
         private final EventMetadata eventMetadata;
 
-        Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
+        Notifier(Class<?> runtimeType, List<? extends ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
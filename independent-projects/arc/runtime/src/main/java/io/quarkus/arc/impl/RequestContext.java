@@ -6,11 +6,15 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
@@ -32,7 +36,10 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<ContextInstances> currentContext = new ThreadLocal<>();
+
+    // Request scoped beans with an index assigned at build time are stored in an array slot
+    private volatile int size;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
@@ -44,6 +51,32 @@ class RequestContext implements ManagedContext {
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
     }
 
+    /**
+     * Compute the number of slots needed for the request scoped beans. The indexes are assigned per generated set of
+     * components, so two beans from different {@link io.quarkus.arc.ComponentsProvider}s may share an index.
+     *
+     * @param beans
+     * @throws IllegalStateException if two beans are assigned the same index
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    void index(List<InjectableBean<?>> beans) {
+        Map<Integer, InjectableBean<?>> indexes = new HashMap<>();
+        int size = 0;
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index < 0) {
+                continue;
+            }
+            InjectableBean<?> previous = indexes.put(index, bean);
+            if (previous != null) {
+                throw new IllegalStateException("Request context index " + index + " is assigned to both " + previous
+                        + " and " + bean);
+            }
+            size = Math.max(size, index + 1);
+        }
+        this.size = size;
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return RequestScoped.class;
@@ -55,17 +88,18 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        int index = indexOf(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual, index);
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            ctx.put(contextual, index, instance);
         }
         return instance != null ? instance.get() : null;
     }
@@ -82,12 +116,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = ctx.remove(contextual, indexOf(contextual));
         if (instance != null) {
             instance.destroy();
         }
@@ -96,7 +130,7 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new ContextInstances(size));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -110,7 +144,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -125,7 +159,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx != null) {
             synchronized (ctx) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -152,6 +186,10 @@ class RequestContext implements ManagedContext {
         }
     }
 
+    private static int indexOf(Contextual<?> contextual) {
+        return contextual instanceof InjectableBean ? ((InjectableBean<?>) contextual).getRequestContextIndex() : -1;
+    }
+
     private void fireIfNotEmpty(LazyValue<Notifier<Object>> value) {
         Notifier<Object> notifier = value.get();
         if (!notifier.isEmpty()) {
@@ -179,9 +217,9 @@ class RequestContext implements ManagedContext {
 
     class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final ContextInstances value;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
+        RequestContextState(ContextInstances value) {
             this.value = value;
         }
 
@@ -193,4 +231,81 @@ class RequestContext implements ManagedContext {
 
     }
 
+    /**
+     * Instances of beans with an assigned slot are stored in an array, any other instance is stored in a lazily created map.
+     */
+    static final class ContextInstances {
+
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> instances;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> overflow;
+
+        ContextInstances(int size) {
+            this.instances = new AtomicReferenceArray<>(size);
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual, int index) {
+            if (index >= 0) {
+                return instances.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> overflow = this.overflow;
+            return overflow != null ? overflow.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, int index, ContextInstanceHandle<?> instance) {
+            if (index >= 0) {
+                instances.set(index, instance);
+            } else {
+                getOverflow().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual, int index) {
+            if (index >= 0) {
+                return instances.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> overflow = this.overflow;
+            return overflow != null ? overflow.remove(contextual) : null;
+        }
+
+        List<ContextInstanceHandle<?>> values() {
+            List<ContextInstanceHandle<?>> values = new ArrayList<>();
+            for (int i = 0; i < instances.length(); i++) {
+                ContextInstanceHandle<?> instance = instances.get(i);
+                if (instance != null) {
+                    values.add(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> overflow = this.overflow;
+            if (overflow != null) {
+                values.addAll(overflow.values());
+            }
+            return values;
+        }
+
+        void clear() {
+            for (int i = 0; i < instances.length(); i++) {
+                instances.set(i, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> overflow = this.overflow;
+            if (overflow != null) {
+                overflow.clear();
+            }
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> getOverflow() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> overflow = this.overflow;
+            if (overflow == null) {
+                synchronized (this) {
+                    overflow = this.overflow;
+                    if (overflow == null) {
+                        this.overflow = overflow = new ConcurrentHashMap<>();
+                    }
+                }
+            }
+            return overflow;
+        }
+
+    }
+
 }
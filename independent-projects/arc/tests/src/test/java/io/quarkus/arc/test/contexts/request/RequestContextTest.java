@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
 import javax.enterprise.context.ContextNotActiveException;
@@ -183,4 +184,24 @@ public class RequestContextTest {
         }
     }
 
+    @Test
+    public void testDestroyContextual() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            Controller.DESTROYED.set(false);
+            InstanceHandle<Controller> handle = arc.instance(Controller.class);
+            assertTrue(handle.getBean().getRequestContextIndex() >= 0);
+            String id = handle.get().getId();
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+            requestContext.destroy(handle.getBean());
+            assertTrue(Controller.DESTROYED.get());
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
 }
@@ -0,0 +1,113 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SharedObserverResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Loud.class, StringProducer.class, StringObserver.class);
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testObserversResolvedForEachQualifierSet() {
+        StringObserver observer = Arc.container().instance(StringObserver.class).get();
+        // Each dependent producer gets a new Event instance but the resolved observers are shared
+        for (int i = 0; i < 3; i++) {
+            StringProducer producer = Arc.container().instance(StringProducer.class).get();
+            producer.event.fire("foo");
+            producer.event.select(new AnnotationLiteral<Loud>() {
+            }).fire("bar");
+            producer.event.fire("baz");
+        }
+        // An observer with no qualifiers is notified of every event
+        assertEquals(9, observer.all.size());
+        assertEquals(3, observer.loud.size());
+        assertEquals("foo", observer.all.get(0));
+        assertEquals("bar", observer.all.get(1));
+        assertEquals("baz", observer.all.get(2));
+        assertEquals("bar", observer.loud.get(0));
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testResolvedObserversShared() throws Exception {
+        StringProducer producer1 = Arc.container().instance(StringProducer.class).get();
+        StringProducer producer2 = Arc.container().instance(StringProducer.class).get();
+        assertNotSame(producer1.event, producer2.event);
+        producer1.event.fire("foo");
+        producer2.event.fire("bar");
+        // Same event type and qualifiers - the very same list is used by both notifiers
+        assertSame(observerMethods(producer1.event), observerMethods(producer2.event));
+
+        Event<String> loud1 = producer1.event.select(new AnnotationLiteral<Loud>() {
+        });
+        Event<String> loud2 = producer2.event.select(new AnnotationLiteral<Loud>() {
+        });
+        loud1.fire("foo");
+        loud2.fire("bar");
+        assertSame(observerMethods(loud1), observerMethods(loud2));
+        assertNotSame(observerMethods(producer1.event), observerMethods(loud1));
+        assertEquals(1, observerMethods(producer1.event).size());
+        assertEquals(2, observerMethods(loud1).size());
+    }
+
+    private static List<?> observerMethods(Event<?> event) throws Exception {
+        Field notifierField = event.getClass().getDeclaredField("lastNotifier");
+        notifierField.setAccessible(true);
+        Object notifier = notifierField.get(event);
+        Field observerMethodsField = notifier.getClass().getDeclaredField("observerMethods");
+        observerMethodsField.setAccessible(true);
+        return (List<?>) observerMethodsField.get(notifier);
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Loud {
+
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        final List<String> all = new CopyOnWriteArrayList<>();
+
+        final List<String> loud = new CopyOnWriteArrayList<>();
+
+        void observeDefault(@Observes String value) {
+            all.add(value);
+        }
+
+        void observeLoud(@Observes @Loud String value) {
+            loud.add(value);
+        }
+
+    }
+
+    @Dependent
+    static class StringProducer {
+
+        @Inject
+        Event<String> event;
+
+    }
+
+}
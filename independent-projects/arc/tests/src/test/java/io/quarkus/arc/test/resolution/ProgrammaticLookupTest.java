@@ -0,0 +1,75 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.util.TypeLiteral;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ProgrammaticLookupTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producers.class);
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testLookup() {
+        ArcContainer arc = Arc.container();
+        // Primitive and wrapper types are considered identical
+        assertEquals(Integer.valueOf(10), arc.instance(Integer.class).get());
+        assertEquals(Long.valueOf(20), arc.instance(long.class).get());
+        // Raw bean type List matches List<Object> but not List<String>
+        assertEquals("foo", arc.instance(new TypeLiteral<List<Object>>() {
+        }).get().get(0));
+        assertFalse(arc.instance(new TypeLiteral<List<String>>() {
+        }).isAvailable());
+        assertFalse(arc.instance(String.class).isAvailable());
+        // Bean types of a primitive producer are the primitive type and java.lang.Object
+        assertEquals(1, arc.beanManager().getBeans(Number.class).size());
+        // Array bean types are indexed by the array class
+        assertEquals("bar", arc.instance(String[].class).get()[0]);
+        // A generic array type is looked up by the array class of its raw component type
+        assertTrue(arc.beanManager().getBeans(new TypeLiteral<List<String>[]>() {
+        }.getType()).isEmpty());
+    }
+
+    @Dependent
+    static class Producers {
+
+        @Produces
+        int ten() {
+            return 10;
+        }
+
+        @Produces
+        Long twenty() {
+            return 20L;
+        }
+
+        @Produces
+        String[] names() {
+            return new String[] { "bar" };
+        }
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        @Singleton
+        @Produces
+        ArrayList list() {
+            ArrayList list = new ArrayList();
+            list.add("foo");
+            return list;
+        }
+
+    }
+
+}
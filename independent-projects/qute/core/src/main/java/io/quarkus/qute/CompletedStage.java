@@ -0,0 +1,385 @@
+package io.quarkus.qute;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A lightweight {@link CompletionStage} that is already completed, either normally or exceptionally.
+ * <p>
+ * Non-async dependent stages are executed immediately in the calling thread and, if possible, return a new completed stage.
+ * This allows to resolve expressions whose values are not asynchronous without allocating {@link CompletableFuture}
+ * instances and dependent actions. {@link ValueResolver}s should use this class whenever the result is already available.
+ *
+ * @param <T>
+ */
+public final class CompletedStage<T> implements CompletionStage<T> {
+
+    static final CompletedStage<Void> VOID = new CompletedStage<>(null, null);
+
+    /**
+     *
+     * @param result
+     * @return a stage completed normally with the given result
+     */
+    public static <T> CompletedStage<T> of(T result) {
+        return new CompletedStage<>(result, null);
+    }
+
+    /**
+     *
+     * @param t
+     * @return a stage completed exceptionally with the given exception
+     */
+    public static <T> CompletedStage<T> failure(Throwable t) {
+        return new CompletedStage<>(null, Objects.requireNonNull(t));
+    }
+
+    /**
+     *
+     * @param stage
+     * @return {@code true} if the given stage is known to be completed normally, {@code false} otherwise
+     */
+    static boolean isCompleted(CompletionStage<?> stage) {
+        if (stage instanceof CompletedStage) {
+            return ((CompletedStage<?>) stage).exception == null;
+        }
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * The stage must be completed normally.
+     *
+     * @param stage
+     * @return the result of the given completed stage
+     * @see #isCompleted(CompletionStage)
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getNow(CompletionStage<T> stage) {
+        if (stage instanceof CompletedStage) {
+            return ((CompletedStage<T>) stage).result;
+        }
+        return ((CompletableFuture<T>) stage).getNow(null);
+    }
+
+    private final T result;
+    private final Throwable exception;
+
+    private CompletedStage(T result, Throwable exception) {
+        this.result = result;
+        this.exception = exception;
+    }
+
+    /**
+     *
+     * @return the result
+     * @throws CompletionException if completed exceptionally
+     */
+    public T get() {
+        if (exception != null) {
+            throw wrap(exception);
+        }
+        return result;
+    }
+
+    public boolean isCompletedExceptionally() {
+        return exception != null;
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApply(Function<? super T, ? extends U> fn) {
+        Objects.requireNonNull(fn);
+        if (exception != null) {
+            return propagate();
+        }
+        try {
+            return new CompletedStage<>(fn.apply(result), null);
+        } catch (Throwable e) {
+            return new CompletedStage<>(null, wrap(e));
+        }
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
+        return toCompletableFuture().thenApplyAsync(fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn, Executor executor) {
+        return toCompletableFuture().thenApplyAsync(fn, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> thenAccept(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (exception != null) {
+            return propagate();
+        }
+        try {
+            action.accept(result);
+            return VOID;
+        } catch (Throwable e) {
+            return new CompletedStage<>(null, wrap(e));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action) {
+        return toCompletableFuture().thenAcceptAsync(action);
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
+        return toCompletableFuture().thenAcceptAsync(action, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> thenRun(Runnable action) {
+        Objects.requireNonNull(action);
+        if (exception != null) {
+            return propagate();
+        }
+        try {
+            action.run();
+            return VOID;
+        } catch (Throwable e) {
+            return new CompletedStage<>(null, wrap(e));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action) {
+        return toCompletableFuture().thenRunAsync(action);
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action, Executor executor) {
+        return toCompletableFuture().thenRunAsync(action, executor);
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombine(CompletionStage<? extends U> other,
+            BiFunction<? super T, ? super U, ? extends V> fn) {
+        Objects.requireNonNull(fn);
+        if (exception == null && isCompleted(other)) {
+            try {
+                return new CompletedStage<>(fn.apply(result, getNow(other)), null);
+            } catch (Throwable e) {
+                return new CompletedStage<>(null, wrap(e));
+            }
+        }
+        return toCompletableFuture().thenCombine(other, fn);
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+            BiFunction<? super T, ? super U, ? extends V> fn) {
+        return toCompletableFuture().thenCombineAsync(other, fn);
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+            BiFunction<? super T, ? super U, ? extends V> fn, Executor executor) {
+        return toCompletableFuture().thenCombineAsync(other, fn, executor);
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBoth(CompletionStage<? extends U> other,
+            BiConsumer<? super T, ? super U> action) {
+        return toCompletableFuture().thenAcceptBoth(other, action);
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+            BiConsumer<? super T, ? super U> action) {
+        return toCompletableFuture().thenAcceptBothAsync(other, action);
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+            BiConsumer<? super T, ? super U> action, Executor executor) {
+        return toCompletableFuture().thenAcceptBothAsync(other, action, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterBoth(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterBothAsync(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return toCompletableFuture().runAfterBothAsync(other, action, executor);
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEither(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return toCompletableFuture().applyToEither(other, fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return toCompletableFuture().applyToEitherAsync(other, fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn,
+            Executor executor) {
+        return toCompletableFuture().applyToEitherAsync(other, fn, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEither(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return toCompletableFuture().acceptEither(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return toCompletableFuture().acceptEitherAsync(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action,
+            Executor executor) {
+        return toCompletableFuture().acceptEitherAsync(other, action, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterEither(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterEitherAsync(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return toCompletableFuture().runAfterEitherAsync(other, action, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> CompletionStage<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+        Objects.requireNonNull(fn);
+        if (exception != null) {
+            return propagate();
+        }
+        try {
+            CompletionStage<U> next = fn.apply(result);
+            return next != null ? next : (CompletionStage<U>) new CompletedStage<>(null, new NullPointerException());
+        } catch (Throwable e) {
+            return new CompletedStage<>(null, wrap(e));
+        }
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return toCompletableFuture().thenComposeAsync(fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn,
+            Executor executor) {
+        return toCompletableFuture().thenComposeAsync(fn, executor);
+    }
+
+    @Override
+    public CompletionStage<T> exceptionally(Function<Throwable, ? extends T> fn) {
+        Objects.requireNonNull(fn);
+        if (exception == null) {
+            return this;
+        }
+        try {
+            return new CompletedStage<>(fn.apply(exception), null);
+        } catch (Throwable e) {
+            return new CompletedStage<>(null, wrap(e));
+        }
+    }
+
+    @Override
+    public CompletionStage<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+        Objects.requireNonNull(action);
+        try {
+            action.accept(result, exception);
+        } catch (Throwable e) {
+            if (exception == null) {
+                return new CompletedStage<>(null, wrap(e));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
+        return toCompletableFuture().whenCompleteAsync(action);
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action, Executor executor) {
+        return toCompletableFuture().whenCompleteAsync(action, executor);
+    }
+
+    @Override
+    public <U> CompletionStage<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
+        Objects.requireNonNull(fn);
+        try {
+            return new CompletedStage<>(fn.apply(result, exception), null);
+        } catch (Throwable e) {
+            return new CompletedStage<>(null, wrap(e));
+        }
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return toCompletableFuture().handleAsync(fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn, Executor executor) {
+        return toCompletableFuture().handleAsync(fn, executor);
+    }
+
+    @Override
+    public CompletableFuture<T> toCompletableFuture() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (exception != null) {
+            future.completeExceptionally(exception);
+        } else {
+            future.complete(result);
+        }
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("CompletedStage [result=").append(result).append(", exception=").append(exception).append("]");
+        return builder.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> CompletedStage<U> propagate() {
+        return (CompletedStage<U>) this;
+    }
+
+    private static CompletionException wrap(Throwable t) {
+        return t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+    }
+
+}
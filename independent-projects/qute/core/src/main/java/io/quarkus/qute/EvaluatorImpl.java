@@ -1,10 +1,9 @@
 package io.quarkus.qute;
 
+import io.quarkus.qute.Expression.Part;
 import io.quarkus.qute.Results.Result;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.jboss.logging.Logger;
 
@@ -23,29 +22,28 @@ class EvaluatorImpl implements Evaluator {
 
     @Override
     public CompletionStage<Object> evaluate(Expression expression, ResolutionContext resolutionContext) {
-        Iterator<String> parts;
+        Part[] parts = expression.parsedParts;
         if (expression.namespace != null) {
-            parts = expression.parts.iterator();
             NamespaceResolver resolver = findNamespaceResolver(expression.namespace, resolutionContext);
             if (resolver == null) {
                 LOGGER.errorf("No namespace resolver found for: %s", expression.namespace);
                 return Futures.failure(new IllegalStateException("No resolver for namespace: " + expression.namespace));
             }
-            EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
+            EvalContext context = new EvalContextImpl(false, null, parts[0], resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.namespace, resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
-                if (parts.hasNext()) {
-                    return resolveReference(false, r, parts, resolutionContext);
-                } else {
-                    return CompletableFuture.completedFuture(r);
-                }
-            });
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (parts.length == 1) {
+                return result;
+            }
+            if (CompletedStage.isCompleted(result)) {
+                return resolveReference(false, CompletedStage.getNow(result), parts, 1, resolutionContext);
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, 1, resolutionContext));
         } else {
             if (expression.literal != null) {
                 return expression.literal;
             } else {
-                parts = expression.parts.iterator();
-                return resolveReference(true, resolutionContext.getData(), parts, resolutionContext);
+                return resolveReference(true, resolutionContext.getData(), parts, 0, resolutionContext);
             }
         }
     }
@@ -64,64 +62,71 @@ class EvaluatorImpl implements Evaluator {
         return findNamespaceResolver(namespace, resolutionContext.getParent());
     }
 
-    private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<String> parts,
+    private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Part[] parts, int index,
             ResolutionContext resolutionContext) {
-        return resolve(new EvalContextImpl(tryParent, ref, parts.next(), resolutionContext), resolvers.iterator())
-                .thenCompose(r -> {
-                    if (parts.hasNext()) {
-                        return resolveReference(false, r, parts, resolutionContext);
-                    } else {
-                        return CompletableFuture.completedFuture(r);
-                    }
-                });
+        CompletionStage<Object> result = resolve(new EvalContextImpl(tryParent, ref, parts[index], resolutionContext));
+        // Continue synchronously as long as the results are already available
+        for (int i = index + 1; i < parts.length; i++) {
+            if (!CompletedStage.isCompleted(result)) {
+                int next = i;
+                return result.thenCompose(r -> resolveReference(false, r, parts, next, resolutionContext));
+            }
+            result = resolve(new EvalContextImpl(false, CompletedStage.getNow(result), parts[i], resolutionContext));
+        }
+        return result;
+    }
+
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext) {
+        return resolve(evalContext, resolvers.iterator());
     }
 
     private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers) {
-        if (!resolvers.hasNext()) {
-            ResolutionContext parent = evalContext.resolutionContext.getParent();
-            if (evalContext.tryParent && parent != null) {
-                // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(false, parent.getData(), evalContext.name, parent),
-                        this.resolvers.iterator());
+        while (resolvers.hasNext()) {
+            ValueResolver resolver = resolvers.next();
+            if (!resolver.appliesTo(evalContext)) {
+                continue;
             }
-            LOGGER.tracef("Unable to resolve %s", evalContext);
-            return Results.NOT_FOUND;
-        }
-        ValueResolver resolver = resolvers.next();
-        if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
-                if (Result.NOT_FOUND.equals(r)) {
-                    return resolve(evalContext, resolvers);
-                } else {
-                    return CompletableFuture.completedFuture(r);
+            CompletionStage<Object> result = resolver.resolve(evalContext);
+            if (CompletedStage.isCompleted(result)) {
+                if (!Result.NOT_FOUND.equals(CompletedStage.getNow(result))) {
+                    return result;
                 }
-            });
-        } else {
-            // Try next resolver
-            return resolve(evalContext, resolvers);
+                // Try next resolver
+            } else {
+                return result.thenCompose(r -> {
+                    if (Result.NOT_FOUND.equals(r)) {
+                        return resolve(evalContext, resolvers);
+                    } else {
+                        return CompletedStage.of(r);
+                    }
+                });
+            }
+        }
+        ResolutionContext parent = evalContext.resolutionContext.getParent();
+        if (evalContext.tryParent && parent != null) {
+            // Continue with parent context
+            return resolve(new EvalContextImpl(false, parent.getData(), evalContext.part, parent));
         }
+        LOGGER.tracef("Unable to resolve %s", evalContext);
+        return Results.NOT_FOUND;
     }
 
     class EvalContextImpl implements EvalContext {
 
         final boolean tryParent;
         final Object base;
+        final Part part;
         final String name;
         final List<String> params;
         final ResolutionContext resolutionContext;
 
-        public EvalContextImpl(boolean tryParent, Object base, String name, ResolutionContext resolutionContext) {
+        public EvalContextImpl(boolean tryParent, Object base, Part part, ResolutionContext resolutionContext) {
             this.tryParent = tryParent;
             this.base = base;
+            this.part = part;
+            this.name = part.name;
+            this.params = part.params;
             this.resolutionContext = resolutionContext;
-            if (Expressions.isVirtualMethod(name)) {
-                this.params = Expressions.parseVirtualMethodParams(name);
-                this.name = Expressions.parseVirtualMethodName(name);
-            } else {
-                this.params = Collections.emptyList();
-                this.name = name;
-            }
         }
 
         @Override
@@ -141,7 +146,7 @@ class EvaluatorImpl implements Evaluator {
 
         @Override
         public CompletionStage<Object> evaluate(String value) {
-            return evaluate(Expression.from(value));
+            return evaluate(part.paramExpression(value));
         }
 
         @Override
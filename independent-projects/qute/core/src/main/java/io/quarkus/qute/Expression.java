@@ -47,10 +47,12 @@ public final class Expression {
     public final CompletableFuture<Object> literal;
     public final String typeCheckInfo;
     public final Origin origin;
+    final Part[] parsedParts;
 
     Expression(String namespace, List<String> parts, Object literal, String typeCheckInfo, Origin origin) {
         this.namespace = namespace;
         this.parts = parts;
+        this.parsedParts = literal != Result.NOT_FOUND ? null : parseParts(parts);
         this.literal = literal != Result.NOT_FOUND ? CompletableFuture.completedFuture(literal) : null;
         this.typeCheckInfo = typeCheckInfo;
         this.origin = origin;
@@ -102,6 +104,14 @@ public final class Expression {
         return builder.toString();
     }
 
+    private static Part[] parseParts(List<String> parts) {
+        Part[] parsed = new Part[parts.size()];
+        for (int i = 0; i < parsed.length; i++) {
+            parsed[i] = new Part(parts.get(i));
+        }
+        return parsed;
+    }
+
     private Object literalValue() {
         if (literal != null) {
             try {
@@ -113,4 +123,51 @@ public final class Expression {
         return null;
     }
 
+    /**
+     * A part of an expression. The virtual method name and params are parsed once when the expression is created.
+     */
+    static final class Part {
+
+        final String name;
+        final List<String> params;
+        private final Expression[] paramExpressions;
+
+        Part(String value) {
+            if (Expressions.isVirtualMethod(value)) {
+                this.name = Expressions.parseVirtualMethodName(value);
+                this.params = Expressions.parseVirtualMethodParams(value);
+                this.paramExpressions = new Expression[params.size()];
+                for (int i = 0; i < paramExpressions.length; i++) {
+                    paramExpressions[i] = Expression.from(params.get(i));
+                }
+            } else {
+                this.name = value;
+                this.params = Collections.emptyList();
+                this.paramExpressions = null;
+            }
+        }
+
+        /**
+         * 
+         * @param value
+         * @return the pre-parsed expression if the value represents a param of this part, or a new expression
+         */
+        Expression paramExpression(String value) {
+            if (paramExpressions != null) {
+                for (int i = 0; i < paramExpressions.length; i++) {
+                    if (params.get(i).equals(value)) {
+                        return paramExpressions[i];
+                    }
+                }
+            }
+            return Expression.from(value);
+        }
+
+        @Override
+        public String toString() {
+            return params.isEmpty() ? name : name + params;
+        }
+
+    }
+
 }
@@ -17,11 +17,27 @@ class Futures {
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
-        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
-        CompletableFuture<Object>[] results = new CompletableFuture[parameters.size()];
+        CompletionStage<Object>[] stages = new CompletionStage[parameters.size()];
+        boolean completed = true;
         int idx = 0;
         for (Entry<String, Expression> entry : parameters.entrySet()) {
-            results[idx++] = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            CompletionStage<Object> stage = resolutionContext.evaluate(entry.getValue());
+            completed = completed && CompletedStage.isCompleted(stage);
+            stages[idx++] = stage;
+        }
+        if (completed) {
+            // All values are available - no need to wait for the results
+            Map<String, Object> paramValues = new HashMap<>();
+            int j = 0;
+            for (Entry<String, Expression> entry : parameters.entrySet()) {
+                paramValues.put(entry.getKey(), CompletedStage.getNow(stages[j++]));
+            }
+            return CompletedStage.of(paramValues);
+        }
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        CompletableFuture<Object>[] results = new CompletableFuture[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            results[i] = stages[i].toCompletableFuture();
         }
         CompletableFuture.allOf(results).whenComplete((v, t1) -> {
             if (t1 != null) {
@@ -43,4 +59,40 @@ class Futures {
         });
         return result;
     }
+
+    /**
+     * 
+     * @param results
+     * @return a stage completed with the {@link MultiResultNode} built from the given results
+     */
+    @SuppressWarnings("unchecked")
+    static CompletionStage<ResultNode> multiResult(CompletionStage<ResultNode>[] results) {
+        ResultNode[] nodes = new ResultNode[results.length];
+        for (int i = 0; i < results.length; i++) {
+            if (!CompletedStage.isCompleted(results[i])) {
+                nodes = null;
+                break;
+            }
+            nodes[i] = CompletedStage.getNow(results[i]);
+        }
+        if (nodes != null) {
+            return CompletedStage.of(new MultiResultNode(nodes));
+        }
+        CompletableFuture<ResultNode> result = new CompletableFuture<>();
+        CompletableFuture<ResultNode>[] all = new CompletableFuture[results.length];
+        for (int i = 0; i < results.length; i++) {
+            all[i] = results[i].toCompletableFuture();
+        }
+        CompletableFuture
+                .allOf(all)
+                .whenComplete((v, t) -> {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(new MultiResultNode(all));
+                    }
+                });
+        return result;
+    }
+
 }
@@ -51,9 +51,24 @@ public class IfSectionHelper implements SectionHelper {
         }
         if (block.operator != null) {
             // If operator is used we need to compare the results of condition and operand
+            CompletionStage<Object> op1Stage = context.resolutionContext().evaluate(block.condition);
+            CompletionStage<Object> op2Stage = context.resolutionContext().evaluate(block.operand);
+            if (CompletedStage.isCompleted(op1Stage) && CompletedStage.isCompleted(op2Stage)) {
+                // Both operands are available - evaluate the operator synchronously
+                try {
+                    if (block.operator.evaluate(CompletedStage.getNow(op1Stage), CompletedStage.getNow(op2Stage))) {
+                        return context.execute(block.block, context.resolutionContext());
+                    } else if (blocks.hasNext()) {
+                        return resolveCondition(context, blocks);
+                    }
+                    return CompletedStage.of(ResultNode.NOOP);
+                } catch (Exception e) {
+                    return CompletedStage.failure(e);
+                }
+            }
             CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
-            CompletableFuture<?> cf1 = context.resolutionContext().evaluate(block.condition).toCompletableFuture();
-            CompletableFuture<?> cf2 = context.resolutionContext().evaluate(block.operand).toCompletableFuture();
+            CompletableFuture<?> cf1 = op1Stage.toCompletableFuture();
+            CompletableFuture<?> cf2 = op2Stage.toCompletableFuture();
             CompletableFuture.allOf(cf1, cf2).whenComplete((v, t1) -> {
                 if (t1 != null) {
                     result.completeExceptionally(t1);
@@ -102,7 +117,7 @@ public class IfSectionHelper implements SectionHelper {
                     if (blocks.hasNext()) {
                         return resolveCondition(context, blocks);
                     }
-                    return CompletableFuture.completedFuture(ResultNode.NOOP);
+                    return CompletedStage.of(ResultNode.NOOP);
                 }
             });
         }
@@ -0,0 +1,108 @@
+package io.quarkus.qute;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Encodes the rendered chunks in UTF-8 and writes them to an output stream through a bounded buffer.
+ * <p>
+ * {@link TextNode} content is encoded once when the template is parsed and written as is.
+ */
+final class OutputStreamConsumer implements Consumer<String> {
+
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    OutputStreamConsumer(OutputStream out, int bufferSize) {
+        this.out = out;
+        // A buffer must be able to hold any encoded code point
+        this.buffer = new byte[Math.max(bufferSize, 4)];
+    }
+
+    @Override
+    public void accept(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                ensureCapacity(1);
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    ensureCapacity(4);
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    // Malformed surrogate pair - use the same replacement as String.getBytes()
+                    ensureCapacity(1);
+                    buffer[position++] = '?';
+                }
+            } else {
+                ensureCapacity(3);
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     *
+     * @param encoded UTF-8 encoded content
+     */
+    void accept(byte[] encoded) {
+        if (encoded.length > buffer.length - position) {
+            writeBuffer();
+            if (encoded.length >= buffer.length) {
+                // No need to copy large chunks
+                write(encoded, encoded.length);
+                return;
+            }
+        }
+        System.arraycopy(encoded, 0, buffer, position, encoded.length);
+        position += encoded.length;
+    }
+
+    void flush() {
+        writeBuffer();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() {
+        if (position > 0) {
+            write(buffer, position);
+            position = 0;
+        }
+    }
+
+    private void write(byte[] bytes, int length) {
+        try {
+            out.write(bytes, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
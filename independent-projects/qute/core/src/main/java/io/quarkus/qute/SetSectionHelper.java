@@ -7,7 +7,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
@@ -26,22 +25,9 @@ public class SetSectionHelper implements SectionHelper {
 
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        CompletableFuture<ResultNode> result = new CompletableFuture<>();
-        evaluateParams(parameters, context.resolutionContext()).whenComplete((r, t) -> {
-            if (t != null) {
-                result.completeExceptionally(t);
-            } else {
-                // Execute the main block with the params as the current context object
-                context.execute(context.resolutionContext().createChild(r, null)).whenComplete((r2, t2) -> {
-                    if (t2 != null) {
-                        result.completeExceptionally(t2);
-                    } else {
-                        result.complete(r2);
-                    }
-                });
-            }
-        });
-        return result;
+        // Execute the main block with the params as the current context object
+        return evaluateParams(parameters, context.resolutionContext())
+                .thenCompose(r -> context.execute(context.resolutionContext().createChild(r, null)));
     }
 
     public static class Factory implements SectionHelperFactory<SetSectionHelper> {
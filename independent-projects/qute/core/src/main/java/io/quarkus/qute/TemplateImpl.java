@@ -49,10 +49,13 @@ class TemplateImpl implements Template {
 
         @Override
         public String render() {
+            CompletionStage<String> result = renderAsync();
+            if (result instanceof CompletedStage && !((CompletedStage<String>) result).isCompletedExceptionally()) {
+                // No need to block if all values were resolved synchronously
+                return ((CompletedStage<String>) result).get();
+            }
             try {
-                Object timeoutAttr = getAttribute(TIMEOUT);
-                long timeout = timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
-                return renderAsync().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return result.toCompletableFuture().get(getTimeout(), TimeUnit.MILLISECONDS);
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 throw new IllegalStateException(e);
             }
@@ -78,18 +81,27 @@ class TemplateImpl implements Template {
             return renderData(data(), resultConsumer);
         }
 
+        @Override
+        public CompletionStage<ResultNode> resolve() {
+            return resolveData(data());
+        }
+
     }
 
     private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-        CompletableFuture<Void> result = new CompletableFuture<>();
-        DataNamespaceResolver dataResolver = new DataNamespaceResolver();
-        List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
-                .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
-        ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
-                engine.getEvaluator(), null);
-        dataResolver.rootContext = rootContext;
+        CompletionStage<ResultNode> resolved = resolveData(data);
+        if (CompletedStage.isCompleted(resolved)) {
+            // Sync resolution - build the output immediately
+            try {
+                CompletedStage.getNow(resolved).process(consumer);
+                return CompletedStage.VOID;
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
         // Async resolution
-        root.resolve(rootContext).whenComplete((r, t) -> {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        resolved.whenComplete((r, t) -> {
             if (t != null) {
                 result.completeExceptionally(t);
             } else {
@@ -101,6 +113,16 @@ class TemplateImpl implements Template {
         return result;
     }
 
+    private CompletionStage<ResultNode> resolveData(Object data) {
+        DataNamespaceResolver dataResolver = new DataNamespaceResolver();
+        List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
+                .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
+        ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
+                engine.getEvaluator(), null);
+        dataResolver.rootContext = rootContext;
+        return root.resolve(rootContext);
+    }
+
     static class DataNamespaceResolver implements NamespaceResolver {
 
         ResolutionContext rootContext;
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.io.OutputStream;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import org.reactivestreams.Publisher;
@@ -16,6 +17,11 @@ public interface TemplateInstance {
      */
     String TIMEOUT = "timeout";
 
+    /**
+     * Attribute key - the size of the buffer used by {@link #consume(OutputStream)} in bytes.
+     */
+    String BUFFER_SIZE = "bufferSize";
+
     /**
      * Set the the root data object. Invocation of this method removes any data set previously by
      * {@link #data(String, Object)}.
@@ -64,6 +70,32 @@ public interface TemplateInstance {
      */
     CompletionStage<String> renderAsync();
 
+    /**
+     * Triggers rendering and writes the result to the given output stream. Note that this method blocks the current thread!
+     * 
+     * @param out
+     * @see #consume(OutputStream)
+     */
+    void render(OutputStream out);
+
+    /**
+     * Resolves all values of the template but does not render it. The result tree can be written later with
+     * {@link #render(ResultNode, OutputStream)}.
+     * 
+     * @return a completion stage that is completed once all values were resolved
+     */
+    CompletionStage<ResultNode> resolve();
+
+    /**
+     * Writes a result tree obtained from {@link #resolve()} to the given output stream. The output is encoded in UTF-8 and
+     * written in chunks. The size of a chunk is limited by the {@link #BUFFER_SIZE} attribute. The stream is flushed but not
+     * closed.
+     * 
+     * @param result
+     * @param out
+     */
+    void render(ResultNode result, OutputStream out);
+
     /**
      * Each subscription triggers rendering.
      * 
@@ -80,4 +112,13 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers rendering. The rendered template is encoded in UTF-8 and written to the given output stream in chunks. The
+     * size of a chunk is limited by the {@link #BUFFER_SIZE} attribute. The stream is flushed but not closed.
+     * 
+     * @param out
+     * @return a completion stage that is completed once the rendering finished
+     */
+    CompletionStage<Void> consume(OutputStream out);
+
 }
@@ -1,7 +1,12 @@
 package io.quarkus.qute;
 
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public abstract class TemplateInstanceBase implements TemplateInstance {
 
@@ -41,8 +46,46 @@ public abstract class TemplateInstanceBase implements TemplateInstance {
         return attributes.get(key);
     }
 
+    @Override
+    public void render(OutputStream out) {
+        CompletionStage<Void> result = consume(out);
+        if (CompletedStage.isCompleted(result)) {
+            return;
+        }
+        try {
+            result.toCompletableFuture().get(getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> consume(OutputStream out) {
+        OutputStreamConsumer consumer = createConsumer(out);
+        return consume(consumer).thenRun(consumer::flush);
+    }
+
+    @Override
+    public void render(ResultNode result, OutputStream out) {
+        OutputStreamConsumer consumer = createConsumer(out);
+        result.process(consumer);
+        consumer.flush();
+    }
+
+    private OutputStreamConsumer createConsumer(OutputStream out) {
+        Object bufferSizeAttr = getAttribute(BUFFER_SIZE);
+        return new OutputStreamConsumer(out,
+                bufferSizeAttr != null ? Integer.parseInt(bufferSizeAttr.toString())
+                        : OutputStreamConsumer.DEFAULT_BUFFER_SIZE);
+    }
+
     protected Object data() {
         return data != null ? data : dataMap;
     }
 
+    protected long getTimeout() {
+        Object timeoutAttr = getAttribute(TIMEOUT);
+        return timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
+    }
+
 }
@@ -1,6 +1,6 @@
 package io.quarkus.qute;
 
-import java.util.concurrent.CompletableFuture;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -9,13 +9,15 @@ import java.util.function.Consumer;
  */
 public class TextNode implements TemplateNode, ResultNode {
 
-    private final CompletableFuture<ResultNode> result;
+    private final CompletedStage<ResultNode> result;
     private final String value;
+    private final byte[] encoded;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
-        this.result = CompletableFuture.completedFuture(this);
+        this.result = CompletedStage.of(this);
         this.value = value;
+        this.encoded = value.getBytes(StandardCharsets.UTF_8);
         this.origin = origin;
     }
 
@@ -30,7 +32,12 @@ public class TextNode implements TemplateNode, ResultNode {
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof OutputStreamConsumer) {
+            // Static text is only encoded once
+            ((OutputStreamConsumer) consumer).accept(encoded);
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
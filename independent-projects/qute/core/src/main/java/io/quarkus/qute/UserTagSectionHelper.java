@@ -4,7 +4,6 @@ import static io.quarkus.qute.Futures.evaluateParams;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -23,29 +22,10 @@ public class UserTagSectionHelper implements SectionHelper {
 
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        CompletableFuture<ResultNode> result = new CompletableFuture<>();
-        evaluateParams(parameters, context.resolutionContext()).whenComplete((r1, t1) -> {
-            if (t1 != null) {
-                result.completeExceptionally(t1);
-            } else {
-                // Execute the template with the params as the root context object
-                try {
-                    TemplateImpl tagTemplate = (TemplateImpl) templateSupplier.get();
-                    tagTemplate.root.resolve(context.resolutionContext().createChild(r1, null))
-                            .whenComplete((r2, t2) -> {
-                                if (t2 != null) {
-                                    result.completeExceptionally(t2);
-                                } else {
-                                    result.complete(r2);
-                                }
-                            });
-                } catch (Exception e) {
-                    result.completeExceptionally(e);
-                }
-
-            }
-        });
-        return result;
+        // Execute the template with the params as the root context object
+        return evaluateParams(parameters, context.resolutionContext())
+                .thenCompose(r -> ((TemplateImpl) templateSupplier.get()).root
+                        .resolve(context.resolutionContext().createChild(r, null)));
     }
 
     public static class Factory implements SectionHelperFactory<UserTagSectionHelper> {
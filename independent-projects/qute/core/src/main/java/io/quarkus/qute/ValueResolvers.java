@@ -4,7 +4,6 @@ import io.quarkus.qute.Results.Result;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -24,7 +23,7 @@ public final class ValueResolvers {
 
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
-                return CompletableFuture.completedFuture(new RawString(context.getBase().toString()));
+                return CompletedStage.of(new RawString(context.getBase().toString()));
             }
         };
     }
@@ -52,7 +51,7 @@ public final class ValueResolvers {
 
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
-                return CompletableFuture.completedFuture(context.getBase());
+                return CompletedStage.of(context.getBase());
             }
         };
     }
@@ -75,7 +74,7 @@ public final class ValueResolvers {
                 if (context.getBase() == null || Results.Result.NOT_FOUND.equals(context.getBase())) {
                     return context.evaluate(context.getParams().get(0));
                 }
-                return CompletableFuture.completedFuture(context.getBase());
+                return CompletedStage.of(context.getBase());
             }
 
         };
@@ -115,7 +114,7 @@ public final class ValueResolvers {
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 Entry<?, ?> entry = (Entry<?, ?>) context.getBase();
-                return CompletableFuture.completedFuture(entryResolve(entry, context.getName()));
+                return CompletedStage.of(entryResolve(entry, context.getName()));
             }
         };
     }
@@ -150,7 +149,7 @@ public final class ValueResolvers {
             @Override
             public CompletionStage<Object> resolve(EvalContext context) {
                 Mapper mapper = (Mapper) context.getBase();
-                return CompletableFuture.completedFuture(mapper.get(context.getName()));
+                return CompletedStage.of(mapper.get(context.getName()));
             }
 
         };
@@ -162,14 +161,14 @@ public final class ValueResolvers {
         Collection<?> collection = (Collection<?>) context.getBase();
         switch (context.getName()) {
             case "size":
-                return CompletableFuture.completedFuture(collection.size());
+                return CompletedStage.of(collection.size());
             case "isEmpty":
             case "empty":
-                return CompletableFuture.completedFuture(collection.isEmpty());
+                return CompletedStage.of(collection.isEmpty());
             case "contains":
                 if (context.getParams().size() == 1) {
                     return context.evaluate(context.getParams().get(0)).thenCompose(e -> {
-                        return CompletableFuture.completedFuture(collection.contains(e));
+                        return CompletedStage.of(collection.contains(e));
                     });
                 }
             default:
@@ -194,29 +193,29 @@ public final class ValueResolvers {
     private static CompletionStage<Object> mapResolveAsync(EvalContext context) {
         Map map = (Map) context.getBase();
         if (map.containsKey(context.getName())) {
-            return CompletableFuture.completedFuture(map.get(context.getName()));
+            return CompletedStage.of(map.get(context.getName()));
         }
         switch (context.getName()) {
             case "keys":
             case "keySet":
-                return CompletableFuture.completedFuture(map.keySet());
+                return CompletedStage.of(map.keySet());
             case "values":
-                return CompletableFuture.completedFuture(map.values());
+                return CompletedStage.of(map.values());
             case "size":
-                return CompletableFuture.completedFuture(map.size());
+                return CompletedStage.of(map.size());
             case "empty":
             case "isEmpty":
-                return CompletableFuture.completedFuture(map.isEmpty());
+                return CompletedStage.of(map.isEmpty());
             case "get":
                 if (context.getParams().size() == 1) {
                     return context.evaluate(context.getParams().get(0)).thenCompose(k -> {
-                        return CompletableFuture.completedFuture(map.get(k));
+                        return CompletedStage.of(map.get(k));
                     });
                 }
             case "containsKey":
                 if (context.getParams().size() == 1) {
                     return context.evaluate(context.getParams().get(0)).thenCompose(k -> {
-                        return CompletableFuture.completedFuture(map.containsKey(k));
+                        return CompletedStage.of(map.containsKey(k));
                     });
                 }
             default:
@@ -0,0 +1,91 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.Test;
+
+public class OutputStreamTest {
+
+    @Test
+    public void testRenderToOutputStream() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers().build();
+        Template template = engine.parse("Žluťoučký kůň {#for name in names}{name}{#if hasNext}, {/if}{/for}!");
+        List<String> names = new ArrayList<>();
+        names.add("foo");
+        names.add("€uro");
+        names.add("😀");
+        names.add("bar\uD800");
+        Map<String, Object> data = new HashMap<>();
+        data.put("names", names);
+
+        String expected = template.render(data);
+        for (int bufferSize : new int[] { 1, 3, 7, 8192 }) {
+            ChunkCountingOutputStream out = new ChunkCountingOutputStream();
+            template.instance().data("names", names).setAttribute(TemplateInstance.BUFFER_SIZE, bufferSize).render(out);
+            assertEquals(new String(expected.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                    new String(out.toByteArray(), StandardCharsets.UTF_8));
+            assertEquals(1, out.flushes);
+            if (bufferSize == 8192) {
+                assertEquals(1, out.chunks);
+            }
+        }
+    }
+
+    @Test
+    public void testRenderResolvedTree() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers().build();
+        Template template = engine.parse("Hello {name}!");
+        TemplateInstance instance = template.instance().data("name", "Jürgen");
+        CompletionStage<ResultNode> resolved = instance.resolve();
+        assertTrue(resolved.toCompletableFuture().isDone());
+
+        ChunkCountingOutputStream out = new ChunkCountingOutputStream();
+        ResultNode result = resolved.toCompletableFuture().join();
+        instance.render(result, out);
+        assertEquals("Hello Jürgen!", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(1, out.flushes);
+        // The resolved tree can be written again
+        out = new ChunkCountingOutputStream();
+        instance.render(result, out);
+        assertEquals("Hello Jürgen!", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    static class ChunkCountingOutputStream extends OutputStream {
+
+        final ByteArrayOutputStream delegate = new ByteArrayOutputStream();
+        int chunks;
+        int flushes;
+
+        @Override
+        public void write(int b) {
+            chunks++;
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            chunks++;
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        byte[] toByteArray() {
+            return delegate.toByteArray();
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.Test;
+
+public class SyncResolutionTest {
+
+    @Test
+    public void testNoFutureAllocatedForSyncValues() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ReflectionValueResolver()).build();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(new Item("item" + i, i));
+        }
+        Template template = engine.parse(
+                "{#for item in items}{#if item.price > 4}{item.name}:{item.price}{#if hasNext},{/if}{/if}{/for}");
+        CompletionStage<String> result = template.data("items", items).renderAsync();
+        assertTrue(result instanceof CompletedStage);
+        assertEquals("item5:5,item6:6,item7:7,item8:8,item9:9", ((CompletedStage<String>) result).get());
+    }
+
+    @Test
+    public void testAsyncValue() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ReflectionValueResolver())
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return context.getBase() instanceof Item && context.getName().equals("discount");
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        Item item = (Item) context.getBase();
+                        return CompletableFuture.supplyAsync(() -> item.price / 2);
+                    }
+                }).build();
+        List<Item> items = new ArrayList<>();
+        items.add(new Item("foo", 10));
+        items.add(new Item("bar", 20));
+        assertEquals("foo:5 bar:10 ",
+                engine.parse("{#for item in items}{item.name}:{item.discount} {/for}").data("items", items).render());
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final int price;
+
+        public Item(String name, int price) {
+            this.name = name;
+            this.price = price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+    }
+
+}
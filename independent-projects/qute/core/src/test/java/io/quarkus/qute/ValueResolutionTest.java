@@ -0,0 +1,88 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+public class ValueResolutionTest {
+
+    @Test
+    public void testHigherPriorityResolverThatStartsApplying() {
+        AtomicBoolean applies = new AtomicBoolean();
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public int getPriority() {
+                        return 100;
+                    }
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return applies.get() && context.getName().equals("name");
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        return CompletableFuture.completedFuture("high");
+                    }
+                }).build();
+        Map<String, String> item = new HashMap<>();
+        item.put("name", "low");
+        Template template = engine.parse("{item.name}");
+        assertEquals("low", template.data("item", item).render());
+        // The resolvers are always tried in the order of priority
+        applies.set(true);
+        assertEquals("high", template.data("item", item).render());
+    }
+
+    @Test
+    public void testPolymorphicBase() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ReflectionValueResolver()).build();
+        List<Object> items = new ArrayList<>();
+        Map<String, String> map = new HashMap<>();
+        map.put("name", "map");
+        items.add(map);
+        items.add(new Named("foo"));
+        items.add(map);
+        items.add(new Named("bar"));
+        assertEquals("map foo map bar ",
+                engine.parse("{#for item in items}{item.name} {/for}").data("items", items).render());
+    }
+
+    @Test
+    public void testVirtualMethodParams() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers().build();
+        Map<String, Object> data = new HashMap<>();
+        Map<String, String> map = new HashMap<>();
+        map.put("foo", "bar");
+        map.put("baz", "qux");
+        data.put("map", map);
+        List<String> keys = new ArrayList<>();
+        keys.add("foo");
+        keys.add("baz");
+        keys.add("foo");
+        data.put("keys", keys);
+        assertEquals("bar:qux:bar:",
+                engine.parse("{#for key in keys}{map.get(key)}:{/for}").render(data));
+    }
+
+    public static class Named {
+
+        public final String name;
+
+        public Named(String name) {
+            this.name = name;
+        }
+
+    }
+
+}
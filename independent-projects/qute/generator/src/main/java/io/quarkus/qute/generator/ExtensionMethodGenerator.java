@@ -139,7 +139,7 @@ public class ExtensionMethodGenerator {
             if (matchAny) {
                 args[1] = resolve.invokeInterfaceMethod(Descriptors.GET_NAME, evalContext);
             }
-            ret = resolve.invokeStaticMethod(Descriptors.COMPLETED_FUTURE, resolve
+            ret = resolve.invokeStaticMethod(Descriptors.COMPLETED_STAGE, resolve
                     .invokeStaticMethod(MethodDescriptor.ofMethod(declaringClass.name().toString(), method.name(),
                             method.returnType().name().toString(),
                             method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList()).toArray()),
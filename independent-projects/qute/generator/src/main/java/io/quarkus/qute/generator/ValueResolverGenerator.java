@@ -178,7 +178,7 @@ public class ValueResolverGenerator {
                             .readInstanceField(FieldDescriptor.of(clazzName, field.name(), field.type().name().toString()),
                                     base);
                 }
-                fieldMatch.returnValue(fieldMatch.invokeStaticMethod(Descriptors.COMPLETED_FUTURE, value));
+                fieldMatch.returnValue(fieldMatch.invokeStaticMethod(Descriptors.COMPLETED_STAGE, value));
             }
         }
 
@@ -210,7 +210,7 @@ public class ValueResolverGenerator {
                     if (hasCompletionStage) {
                         ret = invokeRet;
                     } else {
-                        ret = matchScope.invokeStaticMethod(Descriptors.COMPLETED_FUTURE, invokeRet);
+                        ret = matchScope.invokeStaticMethod(Descriptors.COMPLETED_STAGE, invokeRet);
                     }
                     matchScope.returnValue(ret);
 